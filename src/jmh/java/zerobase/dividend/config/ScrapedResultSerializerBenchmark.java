@@ -0,0 +1,54 @@
+package zerobase.dividend.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import zerobase.dividend.model.Company;
+import zerobase.dividend.model.Dividend;
+import zerobase.dividend.model.ScrapedResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// KEY_FINANCE 캐시 값(ScrapedResult)의 레디스 직렬화/역직렬화
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class ScrapedResultSerializerBenchmark {
+    
+    @Param({"20", "200"})
+    private int dividends;
+    
+    private GenericJackson2JsonRedisSerializer serializer;
+    private ScrapedResult scrapedResult;
+    private byte[] encoded;
+    
+    @Setup
+    public void setUp() {
+        serializer = new GenericJackson2JsonRedisSerializer();
+        
+        List<Dividend> list = new ArrayList<>();
+        LocalDateTime date = LocalDateTime.of(1970, 2, 16, 0, 0);
+        for (int i = 0; i < dividends; i++) {
+            list.add(new Dividend(date.plusMonths(3L * i),
+                                  String.format("%.2f", 0.05 + i * 0.01)));
+        }
+        scrapedResult = new ScrapedResult(new Company("MMM", "3M Company"),
+                                          list);
+        encoded = serializer.serialize(scrapedResult);
+    }
+    
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(scrapedResult);
+    }
+    
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(encoded);
+    }
+}
@@ -0,0 +1,64 @@
+package zerobase.dividend.scraper;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.openjdk.jmh.annotations.*;
+import zerobase.dividend.model.Dividend;
+import zerobase.dividend.type.Month;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 녹화된 히스토리 페이지로 기존 DOM 파싱과 스트리밍 파싱을 비교
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class HistoryParserBenchmark {
+    
+    private String html;
+    
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream(
+                "/fixtures/yahoo/history-MMM.html")) {
+            html = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+    
+    @Benchmark
+    public List<Dividend> dom() {
+        Document document = Jsoup.parse(html);
+        Element element = document.getElementsByAttributeValue(
+                "data-test", "historical-prices").getFirst();
+        Element tbody = element.children().get(1);
+        
+        List<Dividend> dividends = new ArrayList<>();
+        for (Element e : tbody.children()) {
+            String[] splits = e.text().split(" ");
+            if (splits.length < 5 || !splits[4].equals("Dividend")) {
+                continue;
+            }
+            int month = Month.strToNumber(splits[0]);
+            int day = Integer.parseInt(splits[1].replace(",", ""));
+            int year = Integer.parseInt(splits[2]);
+            
+            dividends.add(new Dividend(
+                    LocalDateTime.of(year, month, day, 0, 0), splits[3]));
+        }
+        return dividends;
+    }
+    
+    @Benchmark
+    public List<Dividend> streaming() {
+        return YahooHistoryParser.parseDividends(html);
+    }
+}
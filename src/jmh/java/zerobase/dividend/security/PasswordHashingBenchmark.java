@@ -0,0 +1,84 @@
+package zerobase.dividend.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+// 로그인이 몰릴 때 조회 요청의 지연시간
+// - direct: 요청 스레드에서 BCrypt 실행 (기존 방식)
+// - isolated: 해싱은 PasswordHasher 전용 스레드로 넘기고 요청 스레드는 바로 반환
+// 요청 스레드 풀(Tomcat 워커)은 고정 크기 풀로 흉내, read 의 p99 를 비교
+@BenchmarkMode(Mode.SampleTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+public class PasswordHashingBenchmark {
+    private static final int WORKERS = 8;
+    private static final String PASSWORD = "password";
+    
+    @Param({"direct", "isolated"})
+    private String mode;
+    
+    private ExecutorService workers;
+    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
+    private String encoded;
+    private Map<String, List<String>> cached;
+    
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder();
+        encoded = passwordEncoder.encode(PASSWORD);
+        workers = Executors.newFixedThreadPool(WORKERS);
+        passwordHasher = new PasswordHasher(
+                passwordEncoder,
+                Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+                64);
+        
+        // 캐시 적중 조회 수준의 가벼운 작업
+        cached = new ConcurrentHashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            cached.put("Company " + i, List.of("2024-03-01", "0.25"));
+        }
+    }
+    
+    @TearDown
+    public void tearDown() {
+        workers.shutdownNow();
+        passwordHasher.shutdown();
+    }
+    
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(12)
+    public Object login() throws Exception {
+        if ("direct".equals(mode)) {
+            return workers.submit(
+                    () -> passwordEncoder.matches(PASSWORD, encoded)).get();
+        }
+        
+        CompletableFuture<Boolean> matched = workers.submit(
+                () -> passwordHasher.matches(PASSWORD, encoded)).get();
+        try {
+            return matched.join();
+        } catch (CompletionException e) {
+            // 대기열이 가득 차서 거절된 로그인 (503)
+            return e.getCause();
+        }
+    }
+    
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(4)
+    public Object read() throws Exception {
+        return workers.submit(() -> cached.get(
+                "Company " + ThreadLocalRandom.current().nextInt(1000)))
+                .get();
+    }
+}
@@ -0,0 +1,50 @@
+package zerobase.dividend.security;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// JwtAuthenticationFilter 가 요청마다 수행하는 토큰 검증/파싱
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class TokenProviderBenchmark {
+    private static final String SECRET = "cmVwdWJsaWMtb2Yta29yZWEtaW5jaGVvbi1" +
+            "rYW5nLXNlb25nLWp1bi1kaXZpZGVuZC1wcm9qZWN0LWp3dC10ZXN0LXNlY3Jld" +
+            "C1rZXk=";
+    
+    private TokenProvider tokenProvider;
+    private String token;
+    
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        // 검증/파싱에는 MemberService 가 필요 없음
+        tokenProvider = new TokenProvider(null);
+        Field secretKey = TokenProvider.class.getDeclaredField("secretKey");
+        secretKey.setAccessible(true);
+        secretKey.set(tokenProvider, SECRET);
+        
+        token = tokenProvider.generateToken(
+                "grace", List.of("ROLE_READ", "ROLE_WRITE"));
+    }
+    
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+    
+    @Benchmark
+    public String getUsername() {
+        return tokenProvider.getUsername(token);
+    }
+    
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken("grace", List.of("ROLE_READ"));
+    }
+}
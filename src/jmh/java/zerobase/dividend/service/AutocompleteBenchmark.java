@@ -0,0 +1,78 @@
+package zerobase.dividend.service;
+
+import org.apache.commons.collections4.Trie;
+import org.apache.commons.collections4.trie.PatriciaTrie;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 자동완성 Trie 의 put / prefixMap / 상위 K 개 조회
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class AutocompleteBenchmark {
+    private static final int TOP_K = 10;
+    
+    @Param({"1000", "10000"})
+    private int companies;
+    
+    @Param({"A", "Ap", "App"})
+    private String prefix;
+    
+    private String[] names;
+    private Trie<String, String> trie;
+    private int cursor;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        names = new String[companies];
+        trie = new PatriciaTrie<>();
+        
+        for (int i = 0; i < companies; i++) {
+            names[i] = randomName(random);
+            trie.put(names[i], null);
+        }
+    }
+    
+    @Benchmark
+    public Trie<String, String> put() {
+        Trie<String, String> fresh = new PatriciaTrie<>();
+        for (int i = 0; i < 100; i++) {
+            fresh.put(names[(cursor++ & Integer.MAX_VALUE) % names.length],
+                      null);
+        }
+        return fresh;
+    }
+    
+    @Benchmark
+    public List<String> prefixMap() {
+        return trie.prefixMap(prefix).keySet().stream()
+                .collect(Collectors.toList());
+    }
+    
+    @Benchmark
+    public List<String> topK() {
+        return trie.prefixMap(prefix).keySet().stream()
+                .limit(TOP_K)
+                .collect(Collectors.toList());
+    }
+    
+    private static String randomName(Random random) {
+        String[] heads = {"Apple", "Apex", "Applied", "Amazon", "Alpha",
+                "Bank", "Boeing", "Cisco", "Delta", "Exxon", "General"};
+        StringBuilder name = new StringBuilder(
+                heads[random.nextInt(heads.length)]);
+        name.append(' ');
+        for (int i = 0; i < 6; i++) {
+            name.append((char) ('a' + random.nextInt(26)));
+        }
+        return name.append(" Inc.").toString();
+    }
+}
@@ -0,0 +1,66 @@
+package zerobase.dividend.service;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+import zerobase.dividend.entity.CompanyEntity;
+import zerobase.dividend.entity.DividendEntity;
+import zerobase.dividend.event.DividendsInsertedEvent;
+import zerobase.dividend.model.Company;
+import zerobase.dividend.model.Dividend;
+import zerobase.dividend.model.ScrapedResult;
+import zerobase.dividend.repository.DividendRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 캐시 미스 시 JPA 엔티티 변환과 컬럼 읽기 모델의 결과 생성 비용 (gc 프로파일러로 할당량 비교)
+// JPA 쪽은 DB 조회를 제외한 엔티티 -> DTO 변환만 측정하므로 실제 차이는 이보다 큼
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class ColumnarReadBenchmark {
+    
+    @Param({"20", "200", "2000"})
+    private int dividends;
+    
+    private CompanyEntity company;
+    private List<DividendEntity> dividendEntities;
+    private ColumnarDividendStore store;
+    
+    @Setup
+    public void setUp() {
+        company = new CompanyEntity(new Company("MMM", "3M Company"));
+        ReflectionTestUtils.setField(company, "id", 1L);
+        
+        dividendEntities = new ArrayList<>();
+        LocalDateTime date = LocalDateTime.of(1970, 2, 16, 0, 0);
+        for (int i = 0; i < dividends; i++) {
+            DividendEntity entity = new DividendEntity(
+                    1L, new Dividend(date.plusMonths(i), "1.51"), 1);
+            ReflectionTestUtils.setField(entity, "id", (long) i + 1);
+            dividendEntities.add(entity);
+        }
+        
+        store = new ColumnarDividendStore(
+                Mockito.mock(DividendRepository.class));
+        store.handleDividendsInserted(
+                new DividendsInsertedEvent(company, dividendEntities));
+    }
+    
+    @Benchmark
+    public ScrapedResult jpaMapping() {
+        return FinanceService.toScrapedResult(company, dividendEntities);
+    }
+    
+    @Benchmark
+    public Optional<ScrapedResult> columnar() {
+        return store.getScrapedResult(company, 1);
+    }
+}
@@ -0,0 +1,46 @@
+package zerobase.dividend.service;
+
+import org.openjdk.jmh.annotations.*;
+import zerobase.dividend.entity.CompanyEntity;
+import zerobase.dividend.entity.DividendEntity;
+import zerobase.dividend.model.Company;
+import zerobase.dividend.model.Dividend;
+import zerobase.dividend.model.ScrapedResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 캐시 미스 시 FinanceService 의 엔티티 -> DTO 변환 비용
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class FinanceMappingBenchmark {
+    
+    @Param({"20", "200", "2000"})
+    private int dividends;
+    
+    private CompanyEntity company;
+    private List<DividendEntity> dividendEntities;
+    
+    @Setup
+    public void setUp() {
+        company = new CompanyEntity(new Company("MMM", "3M Company"));
+        
+        dividendEntities = new ArrayList<>();
+        LocalDateTime date = LocalDateTime.of(1970, 2, 16, 0, 0);
+        for (int i = 0; i < dividends; i++) {
+            dividendEntities.add(new DividendEntity(
+                    1L, new Dividend(date.plusMonths(i), "1.51")));
+        }
+    }
+    
+    @Benchmark
+    public ScrapedResult toScrapedResult() {
+        return FinanceService.toScrapedResult(company, dividendEntities);
+    }
+}
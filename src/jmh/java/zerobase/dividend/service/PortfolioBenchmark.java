@@ -0,0 +1,99 @@
+package zerobase.dividend.service;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+import zerobase.dividend.entity.CompanyEntity;
+import zerobase.dividend.entity.DividendMonthlyEntity;
+import zerobase.dividend.model.Company;
+import zerobase.dividend.model.Portfolio;
+import zerobase.dividend.repository.CompanyRepository;
+import zerobase.dividend.repository.DividendMonthlyRepository;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+
+// 포지션 수에 따른 예상 배당 수입 계산 (DB 조회는 메모리 목으로 대체)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class PortfolioBenchmark {
+    private static final int COMPANIES = 2000;
+    
+    @Param({"100", "5000"})
+    private int positions;
+    
+    @Param({"1", "512"})
+    private int parallelThreshold;
+    
+    private PortfolioService portfolioService;
+    private Portfolio.Request request;
+    
+    @Setup
+    public void setUp() {
+        CompanyLookupCache companyLookupCache = new CompanyLookupCache(
+                Mockito.mock(CompanyRepository.class));
+        Map<Long, List<DividendMonthlyEntity>> monthly = new HashMap<>();
+        YearMonth now = YearMonth.now();
+        
+        for (long id = 1; id <= COMPANIES; id++) {
+            CompanyEntity company = new CompanyEntity(
+                    new Company("T" + id, "Company " + id));
+            ReflectionTestUtils.setField(company, "id", id);
+            companyLookupCache.put(company);
+            
+            List<DividendMonthlyEntity> months = new ArrayList<>();
+            for (int i = 0; i < 12; i += 3) {
+                DividendMonthlyEntity month = new DividendMonthlyEntity(
+                        id, DividendAnalyticsService.toPayMonth(
+                                now.minusMonths(i)));
+                month.add(new BigDecimal("0.25"));
+                months.add(month);
+            }
+            monthly.put(id, months);
+        }
+        
+        DividendMonthlyRepository repository =
+                Mockito.mock(DividendMonthlyRepository.class);
+        Mockito.when(repository.findAllByCompanyIdInAndPayMonthBetween(
+                        anyCollection(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> {
+                    Collection<Long> ids = invocation.getArgument(0);
+                    return ids.stream()
+                            .flatMap(id -> monthly.get(id).stream())
+                            .toList();
+                });
+        
+        portfolioService = new PortfolioService(
+                companyLookupCache, repository, 0, parallelThreshold,
+                Integer.MAX_VALUE);
+        
+        Random random = new Random(42);
+        List<Portfolio.Position> list = new ArrayList<>();
+        for (int i = 0; i < positions; i++) {
+            list.add(new Portfolio.Position(
+                    "T" + (random.nextInt(COMPANIES) + 1),
+                    BigDecimal.valueOf(random.nextInt(1000) + 1)));
+        }
+        request = new Portfolio.Request();
+        request.setPositions(list);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        portfolioService.shutdown();
+    }
+    
+    @Benchmark
+    public Portfolio.Income project() {
+        return portfolioService.project(request);
+    }
+}
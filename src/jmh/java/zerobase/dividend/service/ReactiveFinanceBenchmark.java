@@ -0,0 +1,152 @@
+package zerobase.dividend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import zerobase.dividend.model.Company;
+import zerobase.dividend.model.Dividend;
+import zerobase.dividend.model.ScrapedResult;
+import zerobase.dividend.repository.CompanyRepository;
+import zerobase.dividend.repository.DividendRepository;
+import zerobase.dividend.type.CacheKey;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// 동시 요청이 많을 때 캐시 적중 조회를 끝내는 시간 (p99 비교)
+// - servlet: 워커 스레드(Tomcat 기본 최대 200)가 @Cacheable FinanceService 프록시를 호출하고
+//   캐시 조회에서 레디스 응답을 블로킹으로 기다림
+// - reactive: ReactiveFinanceService, 레디스 응답은 이벤트 루프(parallel 스케줄러)에서 처리
+// 레디스 왕복은 양쪽 모두 같은 고정 지연으로 흉내
+@BenchmarkMode(Mode.SampleTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+public class ReactiveFinanceBenchmark {
+    private static final int SERVLET_THREADS = 200;
+    private static final Duration REDIS_LATENCY = Duration.ofMillis(2);
+    
+    @Param({"64", "1024"})
+    private int concurrency;
+    
+    private ScrapedResult cached;
+    private ExecutorService servletPool;
+    private AnnotationConfigApplicationContext servletContext;
+    private FinanceService financeService;
+    private ReactiveFinanceService reactiveFinanceService;
+    
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        List<Dividend> dividends = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            dividends.add(new Dividend(
+                    LocalDateTime.of(2000, 1, 1, 0, 0).plusMonths(3L * i),
+                    "0.25"));
+        }
+        cached = new ScrapedResult(
+                new Company("MMM", "3M Company"), dividends);
+        
+        servletPool = Executors.newFixedThreadPool(SERVLET_THREADS);
+        
+        // 캐시 조회마다 레디스 왕복만큼 블로킹되는 캐시로 @Cacheable 프록시 구성
+        ConcurrentMapCache financeCache =
+                new ConcurrentMapCache(CacheKey.KEY_FINANCE) {
+                    @Override
+                    protected Object lookup(Object key) {
+                        try {
+                            Thread.sleep(REDIS_LATENCY.toMillis());
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return super.lookup(key);
+                    }
+                };
+        financeCache.put("3M Company", cached);
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(financeCache));
+        
+        servletContext = new AnnotationConfigApplicationContext();
+        servletContext.register(CachingConfig.class);
+        servletContext.registerBean(CacheManager.class, () -> cacheManager);
+        servletContext.registerBean(FinanceService.class,
+                                    () -> new FinanceService(
+                                            new CompanyLookupCache(Mockito.mock(
+                                                    CompanyRepository.class)),
+                                            Mockito.mock(
+                                                    DividendRepository.class),
+                                            new SimpleMeterRegistry(),
+                                            Mockito.mock(ObjectProvider.class)));
+        servletContext.refresh();
+        financeService = servletContext.getBean(FinanceService.class);
+        
+        ReactiveValueOperations<String, Object> valueOperations =
+                Mockito.mock(ReactiveValueOperations.class);
+        Mockito.when(valueOperations.get(Mockito.anyString()))
+                .thenAnswer(e -> Mono.delay(REDIS_LATENCY).thenReturn(cached));
+        ReactiveRedisTemplate<String, Object> template =
+                Mockito.mock(ReactiveRedisTemplate.class);
+        Mockito.when(template.opsForValue()).thenReturn(valueOperations);
+        
+        // 캐시 적중만 측정하므로 DB 조회(FinanceService)까지는 가지 않음
+        reactiveFinanceService =
+                new ReactiveFinanceService(financeService, template, 4, 1000);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        servletPool.shutdownNow();
+        reactiveFinanceService.shutdown();
+        servletContext.close();
+    }
+    
+    @Benchmark
+    public int servlet() throws Exception {
+        List<Future<ScrapedResult>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(servletPool.submit(
+                    () -> financeService.getDividendByCompanyName(
+                            "3M Company")));
+        }
+        
+        int count = 0;
+        for (Future<ScrapedResult> future : futures) {
+            count += future.get().getDividendEntities().size();
+        }
+        return count;
+    }
+    
+    @Benchmark
+    public int reactive() {
+        return Flux.range(0, concurrency)
+                .flatMap(i -> reactiveFinanceService.getDividendByCompanyName(
+                        "3M Company"), concurrency)
+                .map(e -> e.getDividendEntities().size())
+                .reduce(0, Integer::sum)
+                .block();
+    }
+    
+    @Configuration
+    @EnableCaching
+    static class CachingConfig {
+    }
+}
@@ -0,0 +1,30 @@
+package zerobase.dividend.type;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 문자열 키 HashMap 조회와 문자 비교 방식의 월 변환 비교
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class MonthBenchmark {
+    private static final String ROW = "Jan 01, Jun 16, Dec 31, Foo 30";
+    private static final String[] MONTHS = {"Jan", "Jun", "Dec", "Foo"};
+    
+    private int cursor;
+    
+    @Benchmark
+    public int strToNumber() {
+        return Month.strToNumber(MONTHS[(cursor++ & Integer.MAX_VALUE) % 4]);
+    }
+    
+    @Benchmark
+    public int strToNumberRange() {
+        int start = ((cursor++ & Integer.MAX_VALUE) % 4) * 8;
+        return Month.strToNumber(ROW, start, start + 3);
+    }
+}
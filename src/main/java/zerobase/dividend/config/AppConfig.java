@@ -2,13 +2,24 @@ package zerobase.dividend.config;
 
 import org.apache.commons.collections4.Trie;
 import org.apache.commons.collections4.trie.PatriciaTrie;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import zerobase.dividend.security.PasswordHasher;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
 
 @Configuration
 public class AppConfig {
+    @Value("${auth.hashing.threads}")
+    private int hashingThreads;
+    
+    @Value("${auth.hashing.queue-capacity}")
+    private int hashingQueueCapacity;
+    
     @Bean
     public Trie<String, String> trie() {
         return new PatriciaTrie<>();
@@ -18,4 +29,21 @@ public class AppConfig {
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
     }
+    
+    @Bean(destroyMethod = "shutdown")
+    public PasswordHasher passwordHasher(PasswordEncoder passwordEncoder) {
+        int threads = hashingThreads > 0 ? hashingThreads :
+                Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new PasswordHasher(
+                passwordEncoder, threads, hashingQueueCapacity);
+    }
+    
+    // 스크래퍼가 요청마다 커넥션을 새로 맺지 않도록 keep-alive 클라이언트를 공유
+    @Bean
+    public HttpClient httpClient() {
+        return HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package zerobase.dividend.config;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,12 +11,15 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import zerobase.dividend.type.CacheKey;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.Set;
 
 @Configuration
 @RequiredArgsConstructor
@@ -38,14 +42,34 @@ public class CacheConfig {
                                 RedisSerializationContext.SerializationPair.fromSerializer(
                                         new GenericJackson2JsonRedisSerializer()));
         
+        // 기동 시점에 캐시를 만들어 두어야 actuator 가 적중/미스 지표를 등록
         return RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory(
                         redisConnectionFactory)
                 .cacheDefaults(config)
+                .initialCacheNames(Set.of(CacheKey.KEY_FINANCE))
+                // 최근 12개월 합계는 달이 바뀌면 달라지므로 하루만 보관
+                .withCacheConfiguration(CacheKey.KEY_ANALYTICS,
+                                        config.entryTtl(Duration.ofDays(1)))
+                .enableStatistics()
                 .build();
     }
     
+    // RedisCacheManager 와 같은 키 형식(CacheKeyPrefix.simple)과 직렬화로 캐시를 읽고 쓰는 리액티브 템플릿
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
+    @ConditionalOnProperty(name = "finance.reactive.enabled",
+            havingValue = "true")
+    public ReactiveRedisTemplate<String, Object> reactiveCacheTemplate(
+            LettuceConnectionFactory redisConnectionFactory) {
+        return new ReactiveRedisTemplate<>(
+                redisConnectionFactory,
+                RedisSerializationContext.<String, Object>newSerializationContext(
+                                new StringRedisSerializer())
+                        .value(new GenericJackson2JsonRedisSerializer())
+                        .build());
+    }
+    
+    @Bean
+    public LettuceConnectionFactory redisConnectionFactory() {
         RedisStandaloneConfiguration config =
                 new RedisStandaloneConfiguration();
         
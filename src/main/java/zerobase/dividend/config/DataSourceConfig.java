@@ -0,0 +1,58 @@
+package zerobase.dividend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// 스크래핑 저장과 조회 API 가 같은 커넥션 풀을 두고 경쟁하지 않도록 풀을 나눔
+// 풀 대기 시간은 hikaricp.connections.acquire{pool=writer|reader} 로 노출
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled",
+        havingValue = "true")
+public class DataSourceConfig {
+    
+    @Bean
+    @ConfigurationProperties("datasource.writer")
+    public HikariDataSource writerDataSource() {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(RoutingDataSource.WRITER);
+        return dataSource;
+    }
+    
+    @Bean
+    @ConfigurationProperties("datasource.reader")
+    public HikariDataSource readerDataSource() {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(RoutingDataSource.READER);
+        return dataSource;
+    }
+    
+    // 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로 실제 커넥션은 첫 쿼리 때 가져옴
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("writerDataSource") DataSource writerDataSource,
+            @Qualifier("readerDataSource") DataSource readerDataSource) {
+        RoutingDataSource routingDataSource = new RoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(
+                RoutingDataSource.WRITER, writerDataSource,
+                RoutingDataSource.READER, readerDataSource));
+        routingDataSource.setDefaultTargetDataSource(writerDataSource);
+        routingDataSource.afterPropertiesSet();
+        
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
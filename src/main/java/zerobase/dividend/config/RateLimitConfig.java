@@ -0,0 +1,82 @@
+package zerobase.dividend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import zerobase.dividend.security.*;
+import zerobase.dividend.type.RateLimitClass;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Configuration
+public class RateLimitConfig {
+    @Value("${rate-limit.enabled}")
+    private boolean enabled;
+    
+    @Value("${rate-limit.scrape.capacity}")
+    private int scrapeCapacity;
+    
+    @Value("${rate-limit.scrape.refill-per-minute}")
+    private int scrapeRefill;
+    
+    @Value("${rate-limit.auth.capacity}")
+    private int authCapacity;
+    
+    @Value("${rate-limit.auth.refill-per-minute}")
+    private int authRefill;
+    
+    @Value("${rate-limit.read.capacity}")
+    private int readCapacity;
+    
+    @Value("${rate-limit.read.refill-per-minute}")
+    private int readRefill;
+    
+    // 여러 노드가 한도를 공유해야 하면 레디스에 버킷을 둠
+    @Bean
+    @ConditionalOnProperty(name = "rate-limit.store", havingValue = "redis")
+    public RateLimitStore redisRateLimitStore(
+            StringRedisTemplate stringRedisTemplate) {
+        return new RedisRateLimitStore(stringRedisTemplate);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(name = "rate-limit.store", havingValue = "memory",
+            matchIfMissing = true)
+    public RateLimitStore inMemoryRateLimitStore() {
+        return new InMemoryRateLimitStore();
+    }
+    
+    @Bean
+    public RateLimitFilter rateLimitFilter(RateLimitStore rateLimitStore,
+                                           ObjectMapper objectMapper,
+                                           MeterRegistry meterRegistry) {
+        Map<RateLimitClass, RateLimitPolicy> policies =
+                new EnumMap<>(RateLimitClass.class);
+        if (enabled) {
+            policies.put(RateLimitClass.SCRAPE,
+                         new RateLimitPolicy(scrapeCapacity, scrapeRefill));
+            policies.put(RateLimitClass.AUTH,
+                         new RateLimitPolicy(authCapacity, authRefill));
+            policies.put(RateLimitClass.READ,
+                         new RateLimitPolicy(readCapacity, readRefill));
+        }
+        return new RateLimitFilter(
+                rateLimitStore, policies, objectMapper, meterRegistry);
+    }
+    
+    // 인증 정보가 필요하므로 서블릿 필터로는 등록하지 않고 시큐리티 체인에서만 실행
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(
+            RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration =
+                new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
@@ -0,0 +1,16 @@
+package zerobase.dividend.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// readOnly 트랜잭션은 reader, 그 외(쓰기, 트랜잭션 밖의 DDL 등)는 writer 로 보냄
+public class RoutingDataSource extends AbstractRoutingDataSource {
+    public static final String WRITER = "writer";
+    public static final String READER = "reader";
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ?
+                READER : WRITER;
+    }
+}
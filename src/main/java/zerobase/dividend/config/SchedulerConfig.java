@@ -1,12 +1,29 @@
 package zerobase.dividend.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.annotation.SchedulingConfigurer;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import zerobase.dividend.scheduler.InMemoryScrapLeaseStore;
+import zerobase.dividend.scheduler.RedisScrapLeaseStore;
+import zerobase.dividend.scheduler.ScrapCoordinator;
+import zerobase.dividend.scheduler.ScrapLeaseStore;
+
+import java.time.Duration;
+import java.util.UUID;
 
 @Configuration
 public class SchedulerConfig implements SchedulingConfigurer {
+    @Value("${spring.application.name}")
+    private String applicationName;
+    
+    @Value("${scheduler.distributed.lease-ttl}")
+    private long leaseTtl;
+    
     @Override
     public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
         ThreadPoolTaskScheduler threadPool = new ThreadPoolTaskScheduler();
@@ -17,4 +34,27 @@ public class SchedulerConfig implements SchedulingConfigurer {
         
         taskRegistrar.setTaskScheduler(threadPool);
     }
+    
+    // 여러 노드가 같은 cron 을 실행해도 레디스 임대로 ticker 를 나눠서 처리
+    @Bean
+    @ConditionalOnProperty(name = "scheduler.distributed.enabled",
+            havingValue = "true")
+    public ScrapLeaseStore redisScrapLeaseStore(
+            StringRedisTemplate stringRedisTemplate) {
+        return new RedisScrapLeaseStore(stringRedisTemplate);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(name = "scheduler.distributed.enabled",
+            havingValue = "false", matchIfMissing = true)
+    public ScrapLeaseStore inMemoryScrapLeaseStore() {
+        return new InMemoryScrapLeaseStore();
+    }
+    
+    @Bean(destroyMethod = "shutdown")
+    public ScrapCoordinator scrapCoordinator(ScrapLeaseStore scrapLeaseStore) {
+        String nodeId = applicationName + "-" + UUID.randomUUID();
+        return new ScrapCoordinator(
+                scrapLeaseStore, nodeId, Duration.ofMillis(leaseTtl));
+    }
 }
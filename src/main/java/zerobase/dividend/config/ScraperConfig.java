@@ -0,0 +1,83 @@
+package zerobase.dividend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import zerobase.dividend.scraper.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.Arrays;
+import java.util.List;
+
+@Configuration
+public class ScraperConfig {
+    @Value("${scraper.concurrency.initial}")
+    private int initialConcurrency;
+    
+    @Value("${scraper.concurrency.min}")
+    private int minConcurrency;
+    
+    @Value("${scraper.concurrency.max}")
+    private int maxConcurrency;
+    
+    @Value("${scraper.concurrency.latency-threshold}")
+    private long latencyThreshold;
+    
+    @Value("${scraper.retry.max-attempts}")
+    private int maxAttempts;
+    
+    @Value("${scraper.retry.base-delay}")
+    private long baseDelay;
+    
+    @Value("${scraper.retry.max-delay}")
+    private long maxDelay;
+    
+    // 쉼표로 구분한 base-url 목록 (오프라인 부하/회귀 테스트에서는 로컬 스텁 서버 주소로 교체)
+    @Value("${scraper.sources}")
+    private String[] sources;
+    
+    @Value("${scraper.hedge.percentile}")
+    private double hedgePercentile;
+    
+    @Value("${scraper.hedge.min-delay}")
+    private long hedgeMinDelay;
+    
+    @Value("${scraper.hedge.max-delay}")
+    private long hedgeMaxDelay;
+    
+    @Value("${scraper.health.threshold}")
+    private double healthThreshold;
+    
+    @Value("${scraper.health.cooldown}")
+    private long healthCooldown;
+    
+    @Bean
+    public AdaptiveConcurrencyLimiter scrapConcurrencyLimiter() {
+        return new AdaptiveConcurrencyLimiter(
+                initialConcurrency, minConcurrency, maxConcurrency,
+                latencyThreshold);
+    }
+    
+    @Bean
+    public RetryPolicy scrapRetryPolicy() {
+        return new RetryPolicy(maxAttempts, baseDelay, maxDelay);
+    }
+    
+    @Bean(destroyMethod = "shutdown")
+    public CompositeScraper scraper(HttpClient httpClient,
+                                    ScrapValidatorStore scrapValidatorStore) {
+        List<ScrapSource> scrapSources = Arrays.stream(sources)
+                .map(String::trim)
+                .filter(e -> !e.isEmpty())
+                .map(e -> new ScrapSource(
+                        URI.create(e).getAuthority(),
+                        new YahooFinanceScraper(
+                                httpClient, scrapValidatorStore, e)))
+                .toList();
+        
+        return new CompositeScraper(scrapSources, new HedgePolicy(
+                hedgePercentile, hedgeMinDelay, hedgeMaxDelay,
+                healthThreshold, healthCooldown));
+    }
+}
@@ -12,6 +12,8 @@ import zerobase.dividend.model.Auth;
 import zerobase.dividend.security.TokenProvider;
 import zerobase.dividend.service.MemberService;
 
+import java.util.concurrent.CompletableFuture;
+
 @RequestMapping("/auth")
 @RequiredArgsConstructor
 @RestController
@@ -21,25 +23,31 @@ public class AuthController {
     private final TokenProvider tokenProvider;
     
     // 회원가입을 위한 API
+    // 해싱이 끝날 때까지 요청 스레드를 잡고 있지 않도록 비동기로 응답
     @PostMapping("/signup")
-    public ResponseEntity<?> signup(@RequestBody Auth.SignUp request) {
+    public CompletableFuture<ResponseEntity<?>> signup(
+            @RequestBody Auth.SignUp request) {
         log.info(
                 "Signup request received. Username: {}", request.getUsername());
-        MemberEntity registered = memberService.register(request);
-        log.info("Signup request success. Username: {}", request.getUsername());
-        return ResponseEntity.ok(registered);
+        return memberService.register(request).thenApply(registered -> {
+            log.info("Signup request success. Username: {}",
+                     request.getUsername());
+            return ResponseEntity.ok(registered);
+        });
     }
     
     // 로그인용 API
     @PostMapping("/signin")
-    public ResponseEntity<?> signin(@RequestBody Auth.SignIn request) {
-        MemberEntity memberEntity = memberService.authenticate(request);
+    public CompletableFuture<ResponseEntity<?>> signin(
+            @RequestBody Auth.SignIn request) {
         log.info(
                 "Signin request received. Username: {}", request.getUsername());
-        String token = tokenProvider.generateToken(
-                memberEntity.getUsername(), memberEntity.getRoles());
-        log.info("Signin request success. Username: {}", request.getUsername());
-        
-        return ResponseEntity.ok(token);
+        return memberService.authenticate(request).thenApply(memberEntity -> {
+            String token = tokenProvider.generateToken(
+                    memberEntity.getUsername(), memberEntity.getRoles());
+            log.info("Signin request success. Username: {}",
+                     request.getUsername());
+            return ResponseEntity.ok(token);
+        });
     }
 }
\ No newline at end of file
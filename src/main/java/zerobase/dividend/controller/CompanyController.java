@@ -1,20 +1,33 @@
 package zerobase.dividend.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.CacheManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.util.ObjectUtils;
 import org.springframework.web.bind.annotation.*;
-import zerobase.dividend.entity.CompanyEntity;
+import org.springframework.web.context.request.WebRequest;
 import zerobase.dividend.exception.CompanyException;
 import zerobase.dividend.model.Company;
+import zerobase.dividend.model.CompanyListing;
+import zerobase.dividend.model.DividendImportResult;
+import zerobase.dividend.service.AutocompleteResponseCache;
+import zerobase.dividend.service.CompanyCatalogVersion;
+import zerobase.dividend.service.CompanyLookupCache;
 import zerobase.dividend.service.CompanyService;
-import zerobase.dividend.type.CacheKey;
+import zerobase.dividend.service.DividendImportService;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -24,7 +37,14 @@ import java.util.List;
 @Slf4j
 public class CompanyController {
     private final CompanyService companyService;
-    private final CacheManager redisCacheManager;
+    private final CompanyLookupCache companyLookupCache;
+    private final DividendImportService dividendImportService;
+    private final CompanyCatalogVersion companyCatalogVersion;
+    private final AutocompleteResponseCache autocompleteResponseCache;
+    private final ObjectMapper objectMapper;
+    
+    @Value("${company.autocomplete.max-age}")
+    private long autocompleteMaxAge;
     
     @PostMapping("/multiple")
     public ResponseEntity<?> addCompany(@RequestBody List<Company> request) {
@@ -82,10 +102,47 @@ public class CompanyController {
         return ResponseEntity.ok(company);
     }
     
+    // 요청 본문을 그대로 스트리밍해서 읽음 (multipart 임시 파일 없음)
+    @PostMapping(value = "/import", consumes = {"text/csv", "text/plain"})
+    @PreAuthorize("hasRole('WRITE')")
+    public ResponseEntity<?> importCompanies(HttpServletRequest request)
+            throws IOException {
+        log.info("Import request received. Size: {}",
+                 request.getContentLengthLong());
+        DividendImportResult result =
+                dividendImportService.importCsv(request.getInputStream());
+        
+        return ResponseEntity.ok(result);
+    }
+    
+    // 회사가 바뀌지 않았으면 색인 조회와 직렬화 없이 304
+    // 색인과 ETag 가 노드마다 다르므로 공유 캐시가 노드끼리 섞지 않도록 private
     @GetMapping("/autocomplete")
-    public ResponseEntity<?> autocomplete(@RequestParam String keyword) {
-        List<String> autocomplate = companyService.autocomplate(keyword);
-        return ResponseEntity.ok(autocomplate);
+    public ResponseEntity<?> autocomplete(@RequestParam String keyword,
+                                          WebRequest webRequest)
+            throws JsonProcessingException {
+        long version = companyCatalogVersion.getCompanies();
+        String etag = companyCatalogVersion.autocompleteETag(version);
+        CacheControl cacheControl = CacheControl.maxAge(
+                Duration.ofSeconds(autocompleteMaxAge)).cachePrivate();
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        
+        byte[] body = autocompleteResponseCache.get(keyword, version);
+        if (body == null) {
+            List<String> autocomplate = companyService.autocomplate(keyword);
+            body = objectMapper.writeValueAsBytes(autocomplate);
+            autocompleteResponseCache.put(keyword, version, body);
+        }
+        
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
     
     @DeleteMapping("/{ticker}")
@@ -93,21 +150,47 @@ public class CompanyController {
     public ResponseEntity<?> deleteCompany(@PathVariable String ticker) {
         log.info("Delete request received. Ticker: {}", ticker);
         String companyName = companyService.deleteCompany(ticker);
-        clearFinanceCache(companyName);
         log.info("Delete request success. Ticker: {}", ticker);
         
         return ResponseEntity.ok(companyName);
     }
     
-    public void clearFinanceCache(String companyName) {
-        redisCacheManager.getCache(CacheKey.KEY_FINANCE).evict(companyName);
+    @DeleteMapping("/multiple")
+    @PreAuthorize("hasRole('WRITE')")
+    public ResponseEntity<?> deleteCompany(@RequestBody List<String> tickers) {
+        log.info("Delete request received. Tickers: {}", tickers);
+        List<String> companyNames = companyService.deleteCompanies(tickers);
+        log.info("Delete request success. Tickers: {}", tickers);
+        
+        return ResponseEntity.ok(companyNames);
     }
     
     @GetMapping
     @PreAuthorize("hasRole('READ')")
-    public ResponseEntity<?> searchCompany(final Pageable pageable) {
-        Page<CompanyEntity> allCompany = companyService.getAllCompany(pageable);
+    public ResponseEntity<?> searchCompany(final Pageable pageable,
+                                           WebRequest webRequest) {
+        // 인증이 필요한 응답이므로 공유 캐시에는 두지 않고 매번 ETag 로 재검증
+        // ETag 는 집계 쿼리 하나로 만들고, 같으면 페이지 조회와 직렬화 생략
+        String etag = companyService.getListingETag();
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
         
-        return ResponseEntity.ok(allCompany);
+        Page<CompanyListing> allCompany =
+                companyService.getAllCompany(pageable);
+        
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .body(allCompany);
+    }
+    
+    @GetMapping("/lookup-cache/stats")
+    @PreAuthorize("hasRole('WRITE')")
+    public ResponseEntity<?> lookupCacheStats() {
+        return ResponseEntity.ok(companyLookupCache.getStats());
     }
 }
\ No newline at end of file
@@ -1,24 +1,79 @@
 package zerobase.dividend.controller;
 
 import lombok.AllArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import zerobase.dividend.model.DividendAnalytics;
+import zerobase.dividend.model.DividendEvent;
+import zerobase.dividend.model.Portfolio;
 import zerobase.dividend.model.ScrapedResult;
+import zerobase.dividend.service.DividendAnalyticsService;
+import zerobase.dividend.service.DividendCalendarService;
+import zerobase.dividend.service.DividendStreamService;
 import zerobase.dividend.service.FinanceService;
+import zerobase.dividend.service.PortfolioService;
+
+import java.time.LocalDate;
+import java.util.List;
 
 @AllArgsConstructor
 @RequestMapping("/finance")
 @RestController
 public class FinanceController {
     private final FinanceService financeService;
+    private final DividendAnalyticsService dividendAnalyticsService;
+    private final DividendCalendarService dividendCalendarService;
+    private final DividendStreamService dividendStreamService;
+    private final PortfolioService portfolioService;
     
+    // since 를 주면 그 version 이후에 저장된 배당금만 반환
     @GetMapping("/dividend/{companyName}")
-    public ResponseEntity<?> searchFinance(@PathVariable String companyName) {
+    public ResponseEntity<?> searchFinance(
+            @PathVariable String companyName,
+            @RequestParam(required = false) Long since) {
         ScrapedResult result = financeService.getDividendByCompanyName(
                 companyName);
+        if (since != null) {
+            result = financeService.getDividendDelta(result, since);
+        }
+        return ResponseEntity.ok(result);
+    }
+    
+    @GetMapping("/analytics/{companyName}")
+    public ResponseEntity<?> searchAnalytics(@PathVariable String companyName) {
+        DividendAnalytics result =
+                dividendAnalyticsService.getAnalyticsByCompanyName(companyName);
+        return ResponseEntity.ok(result);
+    }
+    
+    @GetMapping("/calendar")
+    public ResponseEntity<?> searchCalendar(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer limit) {
+        List<DividendEvent> result =
+                dividendCalendarService.getCalendar(from, to, limit);
+        return ResponseEntity.ok(result);
+    }
+    
+    @PostMapping("/portfolio")
+    public ResponseEntity<?> projectPortfolio(
+            @RequestBody Portfolio.Request request) {
+        Portfolio.Income result = portfolioService.project(request);
         return ResponseEntity.ok(result);
     }
+    
+    // 새로 저장된 배당금을 SSE 로 전달, 재연결 시 Last-Event-ID 이후부터 다시 보냄
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDividends(
+            @RequestParam(required = false) List<String> tickers,
+            @RequestHeader(value = "Last-Event-ID", required = false)
+            Long lastEventId) {
+        return dividendStreamService.subscribe(tickers, lastEventId);
+    }
 }
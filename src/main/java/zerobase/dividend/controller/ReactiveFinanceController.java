@@ -0,0 +1,29 @@
+package zerobase.dividend.controller;
+
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import zerobase.dividend.model.ScrapedResult;
+import zerobase.dividend.service.ReactiveFinanceService;
+
+// GET /finance/dividend 와 같은 응답을 서블릿 스레드를 잡지 않고 반환
+@AllArgsConstructor
+@ConditionalOnProperty(name = "finance.reactive.enabled",
+        havingValue = "true")
+@RequestMapping("/finance/reactive")
+@RestController
+public class ReactiveFinanceController {
+    private final ReactiveFinanceService reactiveFinanceService;
+    
+    @GetMapping("/dividend/{companyName}")
+    public Mono<ResponseEntity<ScrapedResult>> searchFinance(
+            @PathVariable String companyName,
+            @RequestParam(required = false) Long since) {
+        return reactiveFinanceService.getDividendByCompanyName(companyName)
+                .map(result -> since == null ? result :
+                        reactiveFinanceService.getDividendDelta(result, since))
+                .map(ResponseEntity::ok);
+    }
+}
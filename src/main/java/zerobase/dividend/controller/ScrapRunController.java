@@ -0,0 +1,33 @@
+package zerobase.dividend.controller;
+
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import zerobase.dividend.model.ScrapRunProgress;
+import zerobase.dividend.service.ScrapRunService;
+
+import java.util.List;
+
+@AllArgsConstructor
+@RequestMapping("/scrap/runs")
+@RestController
+public class ScrapRunController {
+    private final ScrapRunService scrapRunService;
+    
+    @GetMapping
+    @PreAuthorize("hasRole('WRITE')")
+    public ResponseEntity<?> searchRuns(
+            @RequestParam(defaultValue = "20") int size) {
+        List<ScrapRunProgress> result = scrapRunService.getRecentRuns(size);
+        return ResponseEntity.ok(result);
+    }
+    
+    // 진행률, 남은 시간, ticker 별 결과
+    @GetMapping("/{runId}")
+    @PreAuthorize("hasRole('WRITE')")
+    public ResponseEntity<?> searchRun(@PathVariable String runId) {
+        ScrapRunProgress result = scrapRunService.getRun(runId);
+        return ResponseEntity.ok(result);
+    }
+}
@@ -20,8 +20,17 @@ public class CompanyEntity {
     
     private String name;
     
+    // 배당금이 새로 저장될 때마다 1 씩 증가 (증분 조회 커서)
+    private long dividendVersion;
+    
+    // ticker 는 대문자로 저장 (조회/스트림 필터는 대문자 기준)
     public CompanyEntity(Company company) {
-        ticker = company.getTicker();
+        ticker = Company.normalizeTicker(company.getTicker());
         name = company.getName();
     }
+    
+    // 새 배당금을 저장할 때만 호출, 올린 version 반환
+    public long increaseDividendVersion() {
+        return ++dividendVersion;
+    }
 }
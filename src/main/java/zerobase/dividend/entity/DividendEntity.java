@@ -30,9 +30,17 @@ public class DividendEntity {
     
     private String dividend;
     
+    // 저장될 때의 회사 dividendVersion
+    private long version;
+    
     public DividendEntity(Long companyId, Dividend dividend) {
+        this(companyId, dividend, 0);
+    }
+    
+    public DividendEntity(Long companyId, Dividend dividend, long version) {
         this.companyId = companyId;
         date = dividend.getDate();
         this.dividend = dividend.getDividend();
+        this.version = version;
     }
 }
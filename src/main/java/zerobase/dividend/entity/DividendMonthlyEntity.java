@@ -0,0 +1,51 @@
+package zerobase.dividend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+
+// 회사별 월 단위 배당금 합계 (배당금이 저장될 때 함께 누적)
+@Entity(name = "DIVIDEND_MONTHLY")
+@Getter
+@NoArgsConstructor
+@ToString
+@Table(
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        columnNames = {"companyId", "payMonth"}
+                )
+        }
+)
+public class DividendMonthlyEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    private Long companyId;
+    
+    // yyyyMM
+    private int payMonth;
+    
+    @Column(precision = 19, scale = 6)
+    private BigDecimal total;
+    
+    private int count;
+    
+    public DividendMonthlyEntity(Long companyId, int payMonth) {
+        this.companyId = companyId;
+        this.payMonth = payMonth;
+        this.total = BigDecimal.ZERO;
+    }
+    
+    public void add(BigDecimal amount) {
+        total = total.add(amount);
+        count++;
+    }
+    
+    public int getYear() {
+        return payMonth / 100;
+    }
+}
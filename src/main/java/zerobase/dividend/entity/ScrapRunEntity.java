@@ -0,0 +1,52 @@
+package zerobase.dividend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import zerobase.dividend.type.ScrapRunStatus;
+
+import java.time.LocalDateTime;
+
+// 스케줄러 실행 한 번 (재시작 후 이어서 처리하기 위한 체크포인트)
+@Entity(name = "SCRAP_RUN")
+@Getter
+@NoArgsConstructor
+@ToString
+@Table(indexes = @Index(columnList = "status"))
+public class ScrapRunEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(unique = true)
+    private String runId;
+    
+    @Enumerated(EnumType.STRING)
+    private ScrapRunStatus status;
+    
+    private int total;
+    
+    private LocalDateTime startedAt;
+    
+    private LocalDateTime finishedAt;
+    
+    public ScrapRunEntity(String runId, int total, LocalDateTime startedAt) {
+        this.runId = runId;
+        this.status = ScrapRunStatus.RUNNING;
+        this.total = total;
+        this.startedAt = startedAt;
+    }
+    
+    public void finish(ScrapRunStatus status, LocalDateTime finishedAt) {
+        this.status = status;
+        this.finishedAt = finishedAt;
+    }
+    
+    // 끝난 실행에 처리할 항목을 더 넣음
+    public void reopen(int added) {
+        this.status = ScrapRunStatus.RUNNING;
+        this.total += added;
+        this.finishedAt = null;
+    }
+}
@@ -0,0 +1,46 @@
+package zerobase.dividend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import zerobase.dividend.type.ScrapOutcome;
+
+import java.time.LocalDateTime;
+
+// 실행 안의 ticker 하나, outcome 이 null 이면 아직 처리되지 않음
+@Entity(name = "SCRAP_RUN_ITEM")
+@Getter
+@NoArgsConstructor
+@ToString
+@Table(
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        columnNames = {"scrapRunId", "companyId"}
+                )
+        }
+)
+public class ScrapRunItemEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    private Long scrapRunId;
+    
+    private Long companyId;
+    
+    private String ticker;
+    
+    @Enumerated(EnumType.STRING)
+    private ScrapOutcome outcome;
+    
+    private long durationMillis;
+    
+    private LocalDateTime finishedAt;
+    
+    public ScrapRunItemEntity(Long scrapRunId, CompanyEntity company) {
+        this.scrapRunId = scrapRunId;
+        this.companyId = company.getId();
+        this.ticker = company.getTicker();
+    }
+}
@@ -0,0 +1,48 @@
+package zerobase.dividend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import zerobase.dividend.type.Cadence;
+
+import java.time.LocalDateTime;
+
+@Entity(name = "SCRAP_TASK")
+@Getter
+@NoArgsConstructor
+@ToString
+@Table(indexes = @Index(columnList = "nextScrapAt"))
+public class ScrapTaskEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(unique = true)
+    private Long companyId;
+    
+    @Enumerated(EnumType.STRING)
+    private Cadence cadence;
+    
+    // 다음 배당 예상일
+    private LocalDateTime expectedDate;
+    
+    private LocalDateTime nextScrapAt;
+    
+    private LocalDateTime lastScrapedAt;
+    
+    public ScrapTaskEntity(Long companyId, LocalDateTime nextScrapAt) {
+        this.companyId = companyId;
+        this.cadence = Cadence.IRREGULAR;
+        this.nextScrapAt = nextScrapAt;
+    }
+    
+    public void reschedule(Cadence cadence, LocalDateTime expectedDate,
+                           LocalDateTime nextScrapAt,
+                           LocalDateTime lastScrapedAt) {
+        this.cadence = cadence;
+        this.expectedDate = expectedDate;
+        this.nextScrapAt = nextScrapAt;
+        this.lastScrapedAt = lastScrapedAt;
+    }
+}
@@ -0,0 +1,9 @@
+package zerobase.dividend.event;
+
+import zerobase.dividend.model.Company;
+
+import java.util.List;
+
+public record CompanyDeletedEvent(List<Long> companyIds,
+                                  List<Company> companies) {
+}
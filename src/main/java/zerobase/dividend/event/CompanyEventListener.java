@@ -0,0 +1,43 @@
+package zerobase.dividend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import zerobase.dividend.model.Company;
+import zerobase.dividend.service.CompanyLookupCache;
+import zerobase.dividend.service.CompanyService;
+import zerobase.dividend.type.CacheKey;
+
+@AllArgsConstructor
+@Component
+@Slf4j
+public class CompanyEventListener {
+    private final CompanyService companyService;
+    private final CompanyLookupCache companyLookupCache;
+    private final CacheManager redisCacheManager;
+    
+    // 커밋이 끝난 뒤에만 캐시와 자동완성 목록을 정리
+    @TransactionalEventListener
+    public void handleCompanyDeleted(CompanyDeletedEvent event) {
+        Cache cache = redisCacheManager.getCache(CacheKey.KEY_FINANCE);
+        Cache analyticsCache =
+                redisCacheManager.getCache(CacheKey.KEY_ANALYTICS);
+        
+        for (Company company : event.companies()) {
+            companyLookupCache.evict(company);
+            if (cache != null) {
+                cache.evict(company.getName());
+            }
+            if (analyticsCache != null) {
+                analyticsCache.evict(company.getName());
+            }
+            companyService.deleteAutocompleteKeyword(company.getName());
+        }
+        
+        log.info("Deleted company cache cleared. Count: {}",
+                 event.companies().size());
+    }
+}
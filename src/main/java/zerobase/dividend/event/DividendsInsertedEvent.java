@@ -0,0 +1,10 @@
+package zerobase.dividend.event;
+
+import zerobase.dividend.entity.CompanyEntity;
+import zerobase.dividend.entity.DividendEntity;
+
+import java.util.List;
+
+public record DividendsInsertedEvent(CompanyEntity company,
+                                     List<DividendEntity> dividends) {
+}
@@ -0,0 +1,23 @@
+package zerobase.dividend.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+public class ImportException {
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class InvalidImportFileException extends AbstractException {
+        private String message = "";
+        
+        @Override
+        public String getMessage() {
+            return "invalid import file " + message;
+        }
+        
+        @Override
+        public int getStatusCode() {
+            return HttpStatus.BAD_REQUEST.value();
+        }
+    }
+}
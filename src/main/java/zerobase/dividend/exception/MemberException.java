@@ -52,4 +52,20 @@ public class MemberException {
             return HttpStatus.BAD_REQUEST.value();
         }
     }
+    
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TooManyAuthRequestsException extends AbstractException {
+        private String message = "";
+        
+        @Override
+        public String getMessage() {
+            return "로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요. " + message;
+        }
+        
+        @Override
+        public int getStatusCode() {
+            return HttpStatus.SERVICE_UNAVAILABLE.value();
+        }
+    }
 }
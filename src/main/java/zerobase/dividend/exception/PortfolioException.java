@@ -0,0 +1,39 @@
+package zerobase.dividend.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+public class PortfolioException {
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class InvalidPositionException extends AbstractException {
+        private String message = "";
+        
+        @Override
+        public String getMessage() {
+            return "invalid portfolio position " + message;
+        }
+        
+        @Override
+        public int getStatusCode() {
+            return HttpStatus.BAD_REQUEST.value();
+        }
+    }
+    
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TooManyPositionsException extends AbstractException {
+        private int maxPositions;
+        
+        @Override
+        public String getMessage() {
+            return "portfolio can hold at most " + maxPositions + " positions";
+        }
+        
+        @Override
+        public int getStatusCode() {
+            return HttpStatus.BAD_REQUEST.value();
+        }
+    }
+}
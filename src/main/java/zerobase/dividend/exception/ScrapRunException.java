@@ -0,0 +1,23 @@
+package zerobase.dividend.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+public class ScrapRunException {
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class NoScrapRunException extends AbstractException {
+        private String message = "";
+        
+        @Override
+        public String getMessage() {
+            return "no scrap run " + message;
+        }
+        
+        @Override
+        public int getStatusCode() {
+            return HttpStatus.NOT_FOUND.value();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package zerobase.dividend.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+public class ScraperException {
+    // 429 나 5xx 처럼 잠시 후 다시 시도할 수 있는 실패인지 판단
+    public static boolean isRetryable(Throwable e) {
+        if (e instanceof UpstreamStatusException statusException) {
+            int status = statusException.getUpstreamStatus();
+            return status == HttpStatus.TOO_MANY_REQUESTS.value() ||
+                    status >= 500;
+        }
+        return e instanceof UpstreamIOException;
+    }
+    
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UpstreamStatusException extends AbstractException {
+        @Getter
+        private int upstreamStatus;
+        private String message = "";
+        
+        @Override
+        public String getMessage() {
+            return "upstream responded " + upstreamStatus + " " + message;
+        }
+        
+        @Override
+        public int getStatusCode() {
+            return HttpStatus.BAD_GATEWAY.value();
+        }
+    }
+    
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UpstreamIOException extends AbstractException {
+        private String message = "";
+        
+        @Override
+        public String getMessage() {
+            return "failed to reach upstream " + message;
+        }
+        
+        @Override
+        public int getStatusCode() {
+            return HttpStatus.BAD_GATEWAY.value();
+        }
+    }
+}
@@ -10,4 +10,9 @@ import lombok.NoArgsConstructor;
 public class Company {
     private String ticker;
     private String name;
+    
+    // 저장/조회 모두 대문자 ticker 기준
+    public static String normalizeTicker(String ticker) {
+        return ticker == null ? null : ticker.trim().toUpperCase();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package zerobase.dividend.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// GET /company 의 회사 한 건 (엔티티의 내부 컬럼은 내보내지 않음)
+@AllArgsConstructor
+@Data
+@NoArgsConstructor
+public class CompanyListing {
+    private Long id;
+    private String ticker;
+    private String name;
+}
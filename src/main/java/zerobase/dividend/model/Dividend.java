@@ -1,5 +1,6 @@
 package zerobase.dividend.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
@@ -20,4 +21,13 @@ public class Dividend {
     private LocalDateTime date;
     
     private String dividend;
+    
+    // 스크래핑 직후처럼 아직 저장되지 않은 배당금은 null
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long version;
+    
+    public Dividend(LocalDateTime date, String dividend) {
+        this.date = date;
+        this.dividend = dividend;
+    }
 }
\ No newline at end of file
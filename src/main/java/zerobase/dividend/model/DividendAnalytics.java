@@ -0,0 +1,29 @@
+package zerobase.dividend.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import zerobase.dividend.type.Cadence;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@AllArgsConstructor
+@Data
+@NoArgsConstructor
+public class DividendAnalytics {
+    private Company company;
+    
+    // 최근 12개월(이번 달 포함) 배당금 합계와 지급 횟수
+    private BigDecimal ttm;
+    
+    private int ttmPayments;
+    
+    private Cadence frequency;
+    
+    // 연도별 배당금 합계
+    private Map<Integer, BigDecimal> annualTotals;
+    
+    // 온전한 연도끼리 비교한 연평균 성장률, 비교할 연도가 부족하면 null
+    private Double cagr;
+}
@@ -0,0 +1,29 @@
+package zerobase.dividend.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Data
+@NoArgsConstructor
+public class DividendImportResult {
+    // 헤더를 제외한 데이터 행 수
+    private long rows;
+    
+    private long invalid;
+    
+    private int companiesCreated;
+    
+    private long dividendsInserted;
+    
+    // 이미 저장되어 있거나 파일 안에서 중복된 (회사, 날짜) 행
+    private long duplicates;
+    
+    private long elapsedMillis;
+    
+    // 앞에서부터 최대 finance.import.max-errors 개의 "줄 번호: 사유"
+    private List<String> errors;
+}
@@ -0,0 +1,48 @@
+package zerobase.dividend.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+public class Portfolio {
+    @Data
+    public static class Request {
+        private List<Position> positions;
+    }
+    
+    @AllArgsConstructor
+    @Data
+    @NoArgsConstructor
+    public static class Position {
+        private String ticker;
+        private BigDecimal shares;
+    }
+    
+    @AllArgsConstructor
+    @Data
+    @NoArgsConstructor
+    public static class PositionIncome {
+        private String ticker;
+        private BigDecimal shares;
+        private BigDecimal annualIncome;
+    }
+    
+    // 최근 12개월 지급 내역이 그대로 반복된다고 가정한 예상 배당 수입
+    @AllArgsConstructor
+    @Data
+    @NoArgsConstructor
+    public static class Income {
+        private BigDecimal annualIncome;
+        
+        // 월(1 ~ 12)별 예상 수입
+        private Map<Integer, BigDecimal> monthlyIncome;
+        
+        private List<PositionIncome> positions;
+        
+        private List<String> unknownTickers;
+    }
+}
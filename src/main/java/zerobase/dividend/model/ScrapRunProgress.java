@@ -0,0 +1,52 @@
+package zerobase.dividend.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import zerobase.dividend.type.ScrapOutcome;
+import zerobase.dividend.type.ScrapRunStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@AllArgsConstructor
+@Data
+@NoArgsConstructor
+public class ScrapRunProgress {
+    private String runId;
+    
+    private ScrapRunStatus status;
+    
+    private int total;
+    
+    private long success;
+    
+    private long skipped;
+    
+    private long failed;
+    
+    private long pending;
+    
+    private LocalDateTime startedAt;
+    
+    private LocalDateTime finishedAt;
+    
+    // 지금까지의 처리 속도로 계산한 남은 시간, 실행 중이 아니거나 계산할 수 없으면 null
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long etaSeconds;
+    
+    // 목록 조회에서는 생략
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<Item> items;
+    
+    @AllArgsConstructor
+    @Data
+    @NoArgsConstructor
+    public static class Item {
+        private String ticker;
+        private ScrapOutcome outcome;
+        private long durationMillis;
+        private LocalDateTime finishedAt;
+    }
+}
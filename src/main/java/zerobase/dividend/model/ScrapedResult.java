@@ -1,19 +1,40 @@
 package zerobase.dividend.model;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
+import zerobase.dividend.scraper.ScrapValidator;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Data
-@AllArgsConstructor
 public class ScrapedResult {
     private Company company;
     
     private List<Dividend> dividendEntities;
     
+    // 응답에 포함된 배당금 중 가장 큰 version, 다음 요청의 since 로 사용
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long version;
+    
+    // 스크래핑한 페이지의 검증값, 배당금이 커밋된 뒤에 저장 (응답/캐시에는 포함하지 않음)
+    @JsonIgnore
+    private ScrapValidator validator;
+    
     public ScrapedResult() {
         this.dividendEntities = new ArrayList<>();
     }
+    
+    public ScrapedResult(Company company, List<Dividend> dividendEntities) {
+        this.company = company;
+        this.dividendEntities = dividendEntities;
+    }
+    
+    public ScrapedResult(Company company, List<Dividend> dividendEntities,
+                         Long version) {
+        this.company = company;
+        this.dividendEntities = dividendEntities;
+        this.version = version;
+    }
 }
\ No newline at end of file
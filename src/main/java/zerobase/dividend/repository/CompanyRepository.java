@@ -1,11 +1,18 @@
 package zerobase.dividend.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import zerobase.dividend.entity.CompanyEntity;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -18,4 +25,29 @@ public interface CompanyRepository extends JpaRepository<CompanyEntity, Long> {
             String s, Pageable pageable);
     
     Optional<CompanyEntity> findByTicker(String ticker);
-}
\ No newline at end of file
+    
+    List<CompanyEntity> findAllByTickerIn(Collection<String> tickers);
+    
+    @Query("select c from COMPANY c where not exists " +
+            "(select t from SCRAP_TASK t where t.companyId = c.id)")
+    List<CompanyEntity> findAllWithoutScrapTask();
+    
+    // 같은 회사의 동시 저장은 행 잠금(select ... for update)으로 순서가 정해짐
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from COMPANY c where c.id = :id")
+    Optional<CompanyEntity> findByIdForUpdate(@Param("id") Long id);
+    
+    // 회사 목록 ETag 용 (추가/삭제가 모든 노드에서 DB 에 반영되므로 노드와 무관)
+    @Query("select count(c) as companies, max(c.id) as maxId from COMPANY c")
+    CatalogStamp findCatalogStamp();
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from COMPANY c where c.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+    
+    interface CatalogStamp {
+        Long getCompanies();
+        
+        Long getMaxId();
+    }
+}
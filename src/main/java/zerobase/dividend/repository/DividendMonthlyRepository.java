@@ -0,0 +1,32 @@
+package zerobase.dividend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import zerobase.dividend.entity.DividendMonthlyEntity;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DividendMonthlyRepository
+        extends JpaRepository<DividendMonthlyEntity, Long> {
+    List<DividendMonthlyEntity> findAllByCompanyIdOrderByPayMonthAsc(
+            Long companyId);
+    
+    List<DividendMonthlyEntity> findAllByCompanyIdIn(
+            Collection<Long> companyIds);
+    
+    List<DividendMonthlyEntity> findAllByCompanyIdInAndPayMonthBetween(
+            Collection<Long> companyIds, int fromPayMonth, int toPayMonth);
+    
+    List<DividendMonthlyEntity> findAllByCompanyIdAndPayMonthIn(
+            Long companyId, Collection<Integer> payMonths);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from DIVIDEND_MONTHLY m where m.companyId in :companyIds")
+    int deleteAllByCompanyIdIn(
+            @Param("companyIds") Collection<Long> companyIds);
+}
@@ -1,11 +1,15 @@
 package zerobase.dividend.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 import zerobase.dividend.entity.DividendEntity;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,8 +17,32 @@ public interface DividendRepository extends JpaRepository<DividendEntity,
         Long> {
     List<DividendEntity> findAllByCompanyId(Long companyId);
     
+    List<DividendEntity> findAllByCompanyIdIn(Collection<Long> companyIds);
+    
     boolean existsByCompanyIdAndDate(Long companyId, LocalDateTime date);
     
-    @Transactional
-    void deleteAllByCompanyId(Long id);
-}
\ No newline at end of file
+    List<DividendEntity> findAllByIdGreaterThanOrderByIdAsc(
+            Long id, Pageable pageable);
+    
+    List<DividendEntity> findAllByIdGreaterThanAndCompanyIdInOrderByIdAsc(
+            Long id, Collection<Long> companyIds, Pageable pageable);
+    
+    @Query("select d.date from DIVIDEND d where d.companyId = :companyId")
+    List<LocalDateTime> findAllDatesByCompanyId(
+            @Param("companyId") Long companyId);
+    
+    // 회사의 가장 최근 저장 version, (companyId, date) 인덱스로 조회
+    @Query("select coalesce(max(d.version), 0) from DIVIDEND d " +
+            "where d.companyId = :companyId")
+    long findMaxVersionByCompanyId(@Param("companyId") Long companyId);
+    
+    // 엔티티를 로딩하지 않고 DELETE 한 번으로 삭제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from DIVIDEND d where d.companyId = :companyId")
+    int deleteAllByCompanyId(@Param("companyId") Long companyId);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from DIVIDEND d where d.companyId in :companyIds")
+    int deleteAllByCompanyIdIn(
+            @Param("companyIds") Collection<Long> companyIds);
+}
@@ -0,0 +1,61 @@
+package zerobase.dividend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import zerobase.dividend.entity.ScrapRunItemEntity;
+import zerobase.dividend.type.ScrapOutcome;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ScrapRunItemRepository
+        extends JpaRepository<ScrapRunItemEntity, Long> {
+    List<ScrapRunItemEntity> findAllByScrapRunIdOrderByIdAsc(Long scrapRunId);
+    
+    long countByScrapRunIdAndOutcomeIsNull(Long scrapRunId);
+    
+    @Query("select i.companyId from SCRAP_RUN_ITEM i " +
+            "where i.scrapRunId = :scrapRunId and i.outcome is null " +
+            "order by i.id")
+    List<Long> findPendingCompanyIds(@Param("scrapRunId") Long scrapRunId);
+    
+    @Query("select i.companyId from SCRAP_RUN_ITEM i " +
+            "where i.scrapRunId = :scrapRunId and i.companyId in :companyIds")
+    List<Long> findCompanyIds(@Param("scrapRunId") Long scrapRunId,
+                              @Param("companyIds") Collection<Long> companyIds);
+    
+    // [outcome, count] 목록, 처리되지 않은 항목은 outcome 이 null
+    @Query("select i.outcome, count(i) from SCRAP_RUN_ITEM i " +
+            "where i.scrapRunId = :scrapRunId group by i.outcome")
+    List<Object[]> countByOutcome(@Param("scrapRunId") Long scrapRunId);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from SCRAP_RUN_ITEM i where i.companyId in :companyIds")
+    int deleteAllByCompanyIdIn(
+            @Param("companyIds") Collection<Long> companyIds);
+    
+    // 엔티티를 로딩하지 않고 ticker 하나의 결과만 기록, 먼저 기록된 결과는 덮어쓰지 않음
+    @Modifying
+    @Query("update SCRAP_RUN_ITEM i set i.outcome = :outcome, " +
+            "i.durationMillis = :durationMillis, i.finishedAt = :finishedAt " +
+            "where i.scrapRunId = :scrapRunId and i.companyId = :companyId " +
+            "and i.outcome is null")
+    int markFinished(@Param("scrapRunId") Long scrapRunId,
+                     @Param("companyId") Long companyId,
+                     @Param("outcome") ScrapOutcome outcome,
+                     @Param("durationMillis") long durationMillis,
+                     @Param("finishedAt") LocalDateTime finishedAt);
+    
+    // 같은 실행에서 다시 처리할 항목을 처리되지 않은 상태로 되돌림
+    @Modifying
+    @Query("update SCRAP_RUN_ITEM i set i.outcome = null, " +
+            "i.durationMillis = 0, i.finishedAt = null " +
+            "where i.scrapRunId = :scrapRunId and i.companyId in :companyIds")
+    int reopen(@Param("scrapRunId") Long scrapRunId,
+               @Param("companyIds") Collection<Long> companyIds);
+}
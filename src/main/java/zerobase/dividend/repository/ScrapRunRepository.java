@@ -0,0 +1,20 @@
+package zerobase.dividend.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import zerobase.dividend.entity.ScrapRunEntity;
+import zerobase.dividend.type.ScrapRunStatus;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ScrapRunRepository extends JpaRepository<ScrapRunEntity,
+        Long> {
+    Optional<ScrapRunEntity> findByRunId(String runId);
+    
+    List<ScrapRunEntity> findAllByStatus(ScrapRunStatus status);
+    
+    List<ScrapRunEntity> findAllByOrderByStartedAtDesc(Pageable pageable);
+}
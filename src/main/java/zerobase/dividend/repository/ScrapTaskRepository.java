@@ -0,0 +1,27 @@
+package zerobase.dividend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import zerobase.dividend.entity.ScrapTaskEntity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ScrapTaskRepository extends JpaRepository<ScrapTaskEntity,
+        Long> {
+    Optional<ScrapTaskEntity> findByCompanyId(Long companyId);
+    
+    List<ScrapTaskEntity> findAllByNextScrapAtLessThanEqualOrderByNextScrapAtAsc(
+            LocalDateTime now);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from SCRAP_TASK t where t.companyId in :companyIds")
+    int deleteAllByCompanyIdIn(
+            @Param("companyIds") Collection<Long> companyIds);
+}
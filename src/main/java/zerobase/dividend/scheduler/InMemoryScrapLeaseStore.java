@@ -0,0 +1,83 @@
+package zerobase.dividend.scheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 단일 노드 실행(기본값)과 테스트용 구현
+public class InMemoryScrapLeaseStore implements ScrapLeaseStore {
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final Map<String, Long> done = new ConcurrentHashMap<>();
+    private final Map<String, Long> nodes = new ConcurrentHashMap<>();
+    
+    @Override
+    public boolean tryAcquire(String key, String owner, Duration ttl) {
+        long now = System.currentTimeMillis();
+        Lease lease = leases.compute(
+                key, (k, current) ->
+                        current == null || current.expiresAt() <= now ||
+                                current.owner().equals(owner)
+                                ? new Lease(owner, now + ttl.toMillis())
+                                : current);
+        return lease.owner().equals(owner);
+    }
+    
+    @Override
+    public boolean renew(String key, String owner, Duration ttl) {
+        long now = System.currentTimeMillis();
+        Lease lease = leases.computeIfPresent(
+                key, (k, current) ->
+                        current.owner().equals(owner) &&
+                                current.expiresAt() > now
+                                ? new Lease(owner, now + ttl.toMillis())
+                                : current);
+        return lease != null && lease.owner().equals(owner) &&
+                lease.expiresAt() > now;
+    }
+    
+    @Override
+    public void release(String key, String owner) {
+        leases.computeIfPresent(
+                key, (k, current) ->
+                        current.owner().equals(owner) ? null : current);
+    }
+    
+    @Override
+    public void markDone(String key, Duration ttl) {
+        done.put(key, System.currentTimeMillis() + ttl.toMillis());
+    }
+    
+    @Override
+    public boolean isDone(String key) {
+        Long expiresAt = done.get(key);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+    
+    @Override
+    public void heartbeat(String nodeId, Duration ttl) {
+        long now = System.currentTimeMillis();
+        nodes.put(nodeId, now + ttl.toMillis());
+        
+        // 만료된 완료 표시 정리
+        done.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+    
+    @Override
+    public void leave(String nodeId) {
+        nodes.remove(nodeId);
+    }
+    
+    @Override
+    public List<String> liveNodes(Duration ttl) {
+        long now = System.currentTimeMillis();
+        return nodes.entrySet().stream()
+                .filter(e -> e.getValue() > now)
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+    }
+    
+    private record Lease(String owner, long expiresAt) {
+    }
+}
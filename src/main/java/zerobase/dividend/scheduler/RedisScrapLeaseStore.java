@@ -0,0 +1,88 @@
+package zerobase.dividend.scheduler;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+// 레디스 SET NX PX 로 ticker 단위 임대를 잡고, 노드 하트비트는 sorted set 에 기록
+public class RedisScrapLeaseStore implements ScrapLeaseStore {
+    private static final String NODES_KEY = "scrap:nodes";
+    
+    // 소유자가 일치할 때만 만료 연장/삭제
+    private static final RedisScript<Long> RENEW_SCRIPT =
+            new DefaultRedisScript<>(
+                    "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                            "return redis.call('pexpire', KEYS[1], ARGV[2]) " +
+                            "else return 0 end", Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            new DefaultRedisScript<>(
+                    "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                            "return redis.call('del', KEYS[1]) " +
+                            "else return 0 end", Long.class);
+    
+    private final StringRedisTemplate redisTemplate;
+    
+    public RedisScrapLeaseStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+    
+    @Override
+    public boolean tryAcquire(String key, String owner, Duration ttl) {
+        Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(key, owner, ttl);
+        if (Boolean.TRUE.equals(acquired)) {
+            return true;
+        }
+        return renew(key, owner, ttl);
+    }
+    
+    @Override
+    public boolean renew(String key, String owner, Duration ttl) {
+        Long renewed = redisTemplate.execute(
+                RENEW_SCRIPT, List.of(key), owner,
+                String.valueOf(ttl.toMillis()));
+        return renewed != null && renewed == 1;
+    }
+    
+    @Override
+    public void release(String key, String owner) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(key), owner);
+    }
+    
+    @Override
+    public void markDone(String key, Duration ttl) {
+        redisTemplate.opsForValue().set(key, "1", ttl);
+    }
+    
+    @Override
+    public boolean isDone(String key) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    }
+    
+    @Override
+    public void heartbeat(String nodeId, Duration ttl) {
+        redisTemplate.opsForZSet().add(
+                NODES_KEY, nodeId, System.currentTimeMillis());
+    }
+    
+    @Override
+    public void leave(String nodeId) {
+        redisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+    }
+    
+    @Override
+    public List<String> liveNodes(Duration ttl) {
+        long expiredBefore = System.currentTimeMillis() - ttl.toMillis();
+        redisTemplate.opsForZSet().removeRangeByScore(
+                NODES_KEY, Double.NEGATIVE_INFINITY, expiredBefore);
+        
+        Set<String> nodes = redisTemplate.opsForZSet().rangeByScore(
+                NODES_KEY, expiredBefore, Double.POSITIVE_INFINITY);
+        return nodes == null ? List.of() :
+                nodes.stream().sorted().toList();
+    }
+}
@@ -0,0 +1,184 @@
+package zerobase.dividend.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// 살아 있는 노드끼리 스크래핑 대상을 나눠서 처리
+// - 노드 순번으로 자기 몫(shard)을 먼저 처리하고, 이어서 다른 노드 몫 중 아직 아무도
+//   임대하지 않은 항목을 가져감(work stealing, 다른 노드가 살아 있어도 먼저 끝난 노드가 도움)
+// - 처리 중인 노드가 죽으면 임대가 만료된 뒤 다른 노드가 다시 가져감
+// - 완료 표시 후에 임대를 풀기 때문에 한 실행에서 ticker 는 한 번만 처리됨
+// - 작업이 실패하면 실패를 기록한 뒤 완료 표시, 기록도 못 하면 임대만 풀어서 다시 처리되게 함
+@Slf4j
+public class ScrapCoordinator {
+    private static final Duration DONE_TTL = Duration.ofDays(2);
+    
+    private final ScrapLeaseStore leaseStore;
+    private final String nodeId;
+    private final Duration leaseTtl;
+    
+    private final Set<String> heldLeases = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService renewer =
+            Executors.newSingleThreadScheduledExecutor();
+    
+    public ScrapCoordinator(ScrapLeaseStore leaseStore, String nodeId,
+                            Duration leaseTtl) {
+        this.leaseStore = leaseStore;
+        this.nodeId = nodeId;
+        this.leaseTtl = leaseTtl;
+        
+        long period = Math.max(1, leaseTtl.toMillis() / 3);
+        renewer.scheduleAtFixedRate(this::renew, 0, period,
+                                    TimeUnit.MILLISECONDS);
+    }
+    
+    // alreadyDone : 시작할 때 이미 완료 표시가 있는 항목
+    // (재시작 전의 이 노드나 다른 노드가 끝낸 것, 호출하는 쪽에서 실행 기록에 반영)
+    // failed : 작업이 예외로 끝난 항목, 실패를 기록하면 완료 표시
+    public <T> void runAll(String runId, List<T> items,
+                           Function<T, String> keyOf, Consumer<T> work,
+                           Consumer<T> alreadyDone, Consumer<T> failed,
+                           int parallelism) {
+        List<T> pending = order(items, keyOf);
+        // 실패도 기록하지 못한 항목, 이 노드는 다시 잡지 않고 다른 노드나 재개한 실행에 맡김
+        Set<String> abandoned = ConcurrentHashMap.newKeySet();
+        
+        while (!pending.isEmpty()) {
+            try (ExecutorService executor =
+                         Executors.newFixedThreadPool(parallelism)) {
+                for (T item : pending) {
+                    executor.execute(() -> {
+                        String key = keyOf.apply(item);
+                        try {
+                            if (!runExclusively(runId, key,
+                                                () -> work.accept(item),
+                                                () -> failed.accept(item)) &&
+                                    leaseStore.isDone(doneKey(runId, key))) {
+                                alreadyDone.accept(item);
+                            }
+                        } catch (RuntimeException e) {
+                            abandoned.add(key);
+                            log.warn("Scrap failure not recorded -> {} : {}",
+                                     key, e.getMessage());
+                        }
+                    });
+                }
+            }
+            
+            pending = pending.stream()
+                    .filter(e -> !abandoned.contains(keyOf.apply(e)))
+                    .filter(e -> !leaseStore.isDone(
+                            doneKey(runId, keyOf.apply(e))))
+                    .toList();
+            if (pending.isEmpty()) {
+                break;
+            }
+            
+            // 다른 노드가 처리 중인 항목이 끝나거나 임대가 만료될 때까지 대기
+            log.info("Waiting for {} tickers leased by other nodes",
+                     pending.size());
+            try {
+                Thread.sleep(Math.max(1, leaseTtl.toMillis() / 2));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+    
+    // 자기 몫을 앞에, 다른 노드 몫은 뒤에 둠 (각 노드가 자기 몫부터 잡아서 임대 경합이 적고,
+    // 자기 몫을 끝내면 뒤쪽의 다른 노드 몫 중 임대되지 않은 항목을 그대로 가져감)
+    <T> List<T> order(List<T> items, Function<T, String> keyOf) {
+        leaseStore.heartbeat(nodeId, leaseTtl);
+        List<String> nodes = leaseStore.liveNodes(leaseTtl);
+        int nodeCount = Math.max(1, nodes.size());
+        int index = Math.max(0, nodes.indexOf(nodeId));
+        
+        List<T> own = new ArrayList<>();
+        List<T> others = new ArrayList<>();
+        for (T item : items) {
+            int shard = Math.floorMod(keyOf.apply(item).hashCode(), nodeCount);
+            (shard == index ? own : others).add(item);
+        }
+        
+        log.info("Scrap shard of node {} ({}/{}) -> {} of {} tickers",
+                 nodeId, index + 1, nodeCount, own.size(), items.size());
+        own.addAll(others);
+        return own;
+    }
+    
+    boolean runExclusively(String runId, String key, Runnable work,
+                           Runnable failed) {
+        String doneKey = doneKey(runId, key);
+        if (leaseStore.isDone(doneKey)) {
+            return false;
+        }
+        
+        String leaseKey = leaseKey(runId, key);
+        if (!leaseStore.tryAcquire(leaseKey, nodeId, leaseTtl)) {
+            return false;
+        }
+        
+        heldLeases.add(leaseKey);
+        try {
+            // 임대를 잡는 사이 다른 노드가 끝냈을 수 있으므로 다시 확인
+            if (leaseStore.isDone(doneKey)) {
+                return false;
+            }
+            
+            try {
+                work.run();
+            } catch (RuntimeException e) {
+                // 실패를 기록한 뒤에만 완료 처리, 기록도 실패하면 완료 표시 없이 임대만 풀림
+                log.warn("Scrap work failed -> {} : {}", key, e.getMessage());
+                failed.run();
+            }
+            leaseStore.markDone(doneKey, DONE_TTL);
+            return true;
+        } finally {
+            heldLeases.remove(leaseKey);
+            leaseStore.release(leaseKey, nodeId);
+        }
+    }
+    
+    public void shutdown() {
+        renewer.shutdownNow();
+        leaseStore.leave(nodeId);
+    }
+    
+    public String getNodeId() {
+        return nodeId;
+    }
+    
+    private void renew() {
+        try {
+            leaseStore.heartbeat(nodeId, leaseTtl);
+            for (String leaseKey : heldLeases) {
+                if (!leaseStore.renew(leaseKey, nodeId, leaseTtl)) {
+                    log.warn("Lost scrap lease -> {}", leaseKey);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to renew scrap leases : {}", e.getMessage());
+        }
+    }
+    
+    static String leaseKey(String runId, String key) {
+        return "scrap:run:" + runId + ":lease:" + key;
+    }
+    
+    static String doneKey(String runId, String key) {
+        return "scrap:run:" + runId + ":done:" + key;
+    }
+}
@@ -0,0 +1,23 @@
+package zerobase.dividend.scheduler;
+
+import java.time.Duration;
+import java.util.List;
+
+// 여러 노드가 스크래핑 작업을 나눠 갖기 위한 임대(lease)/하트비트 저장소
+public interface ScrapLeaseStore {
+    boolean tryAcquire(String key, String owner, Duration ttl);
+    
+    boolean renew(String key, String owner, Duration ttl);
+    
+    void release(String key, String owner);
+    
+    void markDone(String key, Duration ttl);
+    
+    boolean isDone(String key);
+    
+    void heartbeat(String nodeId, Duration ttl);
+    
+    void leave(String nodeId);
+    
+    List<String> liveNodes(Duration ttl);
+}
@@ -0,0 +1,51 @@
+package zerobase.dividend.scheduler;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import zerobase.dividend.scraper.AdaptiveConcurrencyLimiter;
+import zerobase.dividend.type.Cadence;
+import zerobase.dividend.type.ScrapOutcome;
+
+import java.util.concurrent.TimeUnit;
+
+// 스크래핑 지표 (회사 단위 소요 시간/결과, 실행 단위 집계, 동시성 한도, 재시도 큐)
+@Component
+public class ScrapMetrics {
+    private final MeterRegistry meterRegistry;
+    
+    public ScrapMetrics(MeterRegistry meterRegistry,
+                        AdaptiveConcurrencyLimiter scrapConcurrencyLimiter,
+                        ScrapRetryQueue scrapRetryQueue) {
+        this.meterRegistry = meterRegistry;
+        
+        Gauge.builder("scrap.concurrency.limit", scrapConcurrencyLimiter,
+                      AdaptiveConcurrencyLimiter::getLimit)
+                .register(meterRegistry);
+        Gauge.builder("scrap.retry.queue.size", scrapRetryQueue,
+                      ScrapRetryQueue::size)
+                .register(meterRegistry);
+    }
+    
+    // 결과(success/skipped/failed)와 배당 주기(ticker 분류)별 소요 시간 및 건수
+    public void recordScrap(ScrapOutcome outcome, Cadence cadence,
+                            long elapsedNanos) {
+        Timer.builder("scrap.duration")
+                .tag("outcome", outcome.name().toLowerCase())
+                .tag("cadence", cadence.name().toLowerCase())
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+    
+    public void recordRun(ScrapRunStats stats, long elapsedNanos) {
+        meterRegistry.timer("scrap.run.duration")
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        meterRegistry.summary("scrap.run.rows.inserted")
+                .record(stats.getInserted());
+        meterRegistry.summary("scrap.run.skip.ratio")
+                .record(stats.getSkipRatio());
+        meterRegistry.counter("scrap.rows.inserted")
+                .increment(stats.getInserted());
+    }
+}
@@ -0,0 +1,56 @@
+package zerobase.dividend.scheduler;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 재시도 횟수를 모두 소진한 ticker 를 모아 두었다가 나중에 다시 스크래핑
+// 같은 ticker 는 maxAttempts 번까지만 넣고, 그 뒤로는 다음 정기 스크래핑 시각에 맡김
+@Component
+public class ScrapRetryQueue {
+    private final int maxAttempts;
+    
+    private final Set<String> tickers = ConcurrentHashMap.newKeySet();
+    private final Map<String, Integer> attempts = new ConcurrentHashMap<>();
+    
+    public ScrapRetryQueue(
+            @Value("${scheduler.scrap.retry-max-attempts}") int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+    
+    // 횟수를 넘겨서 큐에 넣지 않았으면 false
+    public boolean add(String ticker) {
+        int attempt = attempts.merge(ticker, 1, Integer::sum);
+        if (attempt > maxAttempts) {
+            attempts.remove(ticker);
+            return false;
+        }
+        
+        tickers.add(ticker);
+        return true;
+    }
+    
+    // 스크래핑에 성공하면 횟수를 다시 셈
+    public void reset(String ticker) {
+        attempts.remove(ticker);
+    }
+    
+    // ticker 와 몇 번째 재시도인지
+    public Map<String, Integer> drain() {
+        Map<String, Integer> drained = new LinkedHashMap<>();
+        for (String ticker : tickers) {
+            if (tickers.remove(ticker)) {
+                drained.put(ticker, attempts.getOrDefault(ticker, 1));
+            }
+        }
+        return drained;
+    }
+    
+    public int size() {
+        return tickers.size();
+    }
+}
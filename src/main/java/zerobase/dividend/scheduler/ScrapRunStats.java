@@ -0,0 +1,53 @@
+package zerobase.dividend.scheduler;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 스케줄러 실행 한 번의 집계 (변경 없음으로 생략된 비율 포함)
+public class ScrapRunStats {
+    private final AtomicInteger scraped = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicInteger inserted = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    
+    public void scraped(int insertedRows) {
+        scraped.incrementAndGet();
+        inserted.addAndGet(insertedRows);
+    }
+    
+    public void skipped() {
+        skipped.incrementAndGet();
+    }
+    
+    public void failed() {
+        failed.incrementAndGet();
+    }
+    
+    public int getScraped() {
+        return scraped.get();
+    }
+    
+    public int getSkipped() {
+        return skipped.get();
+    }
+    
+    public int getInserted() {
+        return inserted.get();
+    }
+    
+    public int getFailed() {
+        return failed.get();
+    }
+    
+    public double getSkipRatio() {
+        int total = getScraped() + getSkipped();
+        return total == 0 ? 0 : (double) getSkipped() / total;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format(
+                "scraped: %d, skipped: %d (%.1f%%), inserted: %d, failed: %d",
+                getScraped(), getSkipped(), getSkipRatio() * 100,
+                getInserted(), getFailed());
+    }
+}
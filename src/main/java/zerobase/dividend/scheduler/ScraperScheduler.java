@@ -2,21 +2,40 @@ package zerobase.dividend.scheduler;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import zerobase.dividend.entity.CompanyEntity;
 import zerobase.dividend.entity.DividendEntity;
+import zerobase.dividend.entity.ScrapRunEntity;
+import zerobase.dividend.exception.ScraperException;
 import zerobase.dividend.model.Company;
 import zerobase.dividend.model.ScrapedResult;
 import zerobase.dividend.repository.CompanyRepository;
-import zerobase.dividend.repository.DividendRepository;
-import zerobase.dividend.scraper.YahooFinanceScraper;
+import zerobase.dividend.scraper.AdaptiveConcurrencyLimiter;
+import zerobase.dividend.scraper.RetryPolicy;
+import zerobase.dividend.scraper.ScrapValidator;
+import zerobase.dividend.scraper.ScrapValidatorStore;
+import zerobase.dividend.scraper.Scraper;
+import zerobase.dividend.service.DividendService;
+import zerobase.dividend.service.ScrapRunService;
+import zerobase.dividend.service.ScrapTaskService;
+import zerobase.dividend.type.Cadence;
 import zerobase.dividend.type.CacheKey;
+import zerobase.dividend.type.ScrapOutcome;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 
 @AllArgsConstructor
 @Component
@@ -25,50 +44,253 @@ import java.util.List;
 public class ScraperScheduler {
     
     private final CompanyRepository companyRepository;
-    private final YahooFinanceScraper yahooFinanceScraper;
-    private final DividendRepository dividendRepository;
+    private final Scraper yahooFinanceScraper;
+    private final ScrapValidatorStore scrapValidatorStore;
+    private final DividendService dividendService;
+    private final ScrapTaskService scrapTaskService;
+    private final ScrapRunService scrapRunService;
+    
+    private final AdaptiveConcurrencyLimiter scrapConcurrencyLimiter;
+    private final RetryPolicy scrapRetryPolicy;
+    private final ScrapRetryQueue scrapRetryQueue;
+    private final ScrapCoordinator scrapCoordinator;
+    private final ScrapMetrics scrapMetrics;
+    private final CacheManager redisCacheManager;
+    
+    // 정기 실행, 재개한 실행, 재시도가 같은 회사를 동시에 처리하지 않도록 한 번에 하나만
+    private final ReentrantLock runLock = new ReentrantLock();
     
-    @CacheEvict(value = CacheKey.KEY_FINANCE, allEntries = true)
     @Scheduled(cron = "${scheduler.scrap.yahoo}")
     public void yahooFinanceScheduling() {
+        if (!runLock.tryLock()) {
+            log.info("Previous scrap run is still in progress. Skip.");
+            return;
+        }
         
-        log.info(
-                "Scheduled yahooFinanceScheduling starts at {}",
-                LocalTime.now());
+        try {
+            log.info(
+                    "Scheduled yahooFinanceScheduling starts at {}",
+                    LocalTime.now());
+            
+            // 다음 스크래핑 시각이 지난 회사만 예정 순서대로 조회
+            LocalDateTime now = LocalDateTime.now();
+            List<CompanyEntity> companies =
+                    scrapTaskService.findDueCompanies(now);
+            log.info("Due companies -> {}", companies.size());
+            
+            // 실행을 기록하고, 같은 시각의 실행은 노드끼리 나눠서 처리
+            ScrapRunEntity run = scrapRunService.start(
+                    now.truncatedTo(ChronoUnit.HOURS).toString(), companies);
+            ScrapRunStats stats = scrapCompanies(
+                    run, scrapRunService.findPendingCompanies(run));
+            
+            log.info(
+                    "Scheduled yahooFinanceScheduling ends at {}. {}",
+                    LocalTime.now(), stats);
+        } finally {
+            runLock.unlock();
+        }
+    }
+    
+    // 재시작 전에 끝나지 않은 실행은 남은 ticker 만 이어서 처리
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedRuns() {
+        List<ScrapRunEntity> runs = scrapRunService.findResumableRuns();
+        if (runs.isEmpty()) {
+            return;
+        }
         
-        // 저장된 회사 목록 조회
-        List<CompanyEntity> companies = companyRepository.findAll();
+        Thread.ofPlatform().name("scrap-resume").daemon(true).start(() -> {
+            runLock.lock();
+            try {
+                for (ScrapRunEntity run : runs) {
+                    List<CompanyEntity> pending =
+                            scrapRunService.findPendingCompanies(run);
+                    log.info("Resuming scrap run {} -> {} pending",
+                             run.getRunId(), pending.size());
+                    
+                    ScrapRunStats stats = scrapCompanies(run, pending);
+                    log.info("Resumed scrap run {} ends. {}",
+                             run.getRunId(), stats);
+                }
+            } finally {
+                runLock.unlock();
+            }
+        });
+    }
+    
+    // 재시도 횟수를 소진한 ticker 는 다음 실행을 기다리지 않고 따로 다시 시도
+    // 기록은 시간마다 한 실행에 모으고, 정기 실행 중이면 다음 차례로 미룸
+    @Scheduled(fixedDelayString = "${scheduler.scrap.retry-delay}",
+            initialDelayString = "${scheduler.scrap.retry-delay}")
+    public void retryFailedScheduling() {
+        if (!runLock.tryLock()) {
+            log.info("Scrap run is still in progress. Retry later.");
+            return;
+        }
         
-        // 회사마다 배당금 정보를 새로 스크래핑
-        for (CompanyEntity company : companies) {
-            log.info("scraping scheduler is started -> " + company.getName());
-            ScrapedResult scrapedResult = yahooFinanceScraper.scrap(
-                    new Company(company.getName(), company.getTicker()));
+        try {
+            Map<String, Integer> attempts = scrapRetryQueue.drain();
+            if (attempts.isEmpty()) {
+                return;
+            }
             
-            // 스크래핑한 배당금 정보 중 DB 에 없는 값 저장
-            scrapedResult.getDividendEntities().stream()
-                    // Dividend -> DividendEntitiy 매핑
-                    .map(e -> new DividendEntity(company.getId(), e))
-                    // DividendEntity 하나씩 중복확인 후 저장
-                    .forEach(e -> {
-                        boolean exists =
-                                dividendRepository.existsByCompanyIdAndDate(
-                                        e.getCompanyId(), e.getDate());
-                        if (!exists) {
-                            dividendRepository.save(e);
-                        }
-                    });
+            log.info("Retrying failed tickers -> {}", attempts);
+            List<CompanyEntity> companies =
+                    companyRepository.findAllByTickerIn(attempts.keySet());
+            String runId = "retry-" + LocalDateTime.now()
+                    .truncatedTo(ChronoUnit.HOURS);
+            ScrapRunEntity run = scrapRunService.reopen(
+                    scrapRunService.start(runId, companies), companies);
             
-            // 요청마다 쉬는 시간 입력
+            // 같은 실행에서 같은 ticker 를 다시 시도하므로 완료 표시는 몇 번째인지로 구분
+            ScrapRunStats stats = scrapCompanies(
+                    run, companies,
+                    company -> company.getTicker() + "#" +
+                            attempts.get(company.getTicker()));
+            log.info("Retry of failed tickers ends. {}", stats);
+        } finally {
+            runLock.unlock();
+        }
+    }
+    
+    private ScrapRunStats scrapCompanies(
+            ScrapRunEntity run, List<CompanyEntity> companies) {
+        return scrapCompanies(run, companies, CompanyEntity::getTicker);
+    }
+    
+    private ScrapRunStats scrapCompanies(
+            ScrapRunEntity run, List<CompanyEntity> companies,
+            Function<CompanyEntity, String> keyOf) {
+        ScrapRunStats stats = new ScrapRunStats();
+        long runStart = System.nanoTime();
+        
+        // 동시 요청 수는 limiter 가 조절하고, 스레드 수는 최대 한도만큼만 생성
+        scrapCoordinator.runAll(
+                run.getRunId(), companies, keyOf,
+                company -> {
+                    long start = System.nanoTime();
+                    ScrapOutcome outcome = scrapWithRetry(company, stats);
+                    
+                    // 결과와 상관없이 배당 주기로 다음 스크래핑 시각을 다시 계산
+                    Cadence cadence = scrapTaskService.reschedule(
+                            company.getId(), LocalDateTime.now());
+                    long elapsed = System.nanoTime() - start;
+                    scrapMetrics.recordScrap(outcome, cadence, elapsed);
+                    scrapRunService.checkpoint(run, company, outcome,
+                                               elapsed / 1_000_000);
+                },
+                // 레디스의 완료 표시가 DB 의 실행 기록보다 오래 남은 경우 (재시작 등)
+                // 기록하지 않으면 pending 으로 남아서 실행이 완료되지 않음
+                company -> scrapRunService.checkpoint(
+                        run, company, ScrapOutcome.SKIPPED, 0),
+                // 저장 후 일정 계산이나 체크포인트가 실패한 경우, 기록하지 않으면 pending 으로 남음
+                company -> scrapRunService.checkpoint(
+                        run, company, ScrapOutcome.FAILED, 0),
+                scrapConcurrencyLimiter.getMaxLimit());
+        
+        scrapRunService.finish(run);
+        scrapMetrics.recordRun(stats, System.nanoTime() - runStart);
+        return stats;
+    }
+    
+    ScrapOutcome scrapWithRetry(
+            CompanyEntity company, ScrapRunStats stats) {
+        log.info("scraping scheduler is started -> " + company.getName());
+        
+        for (int attempt = 1; attempt <= scrapRetryPolicy.maxAttempts();
+             attempt++) {
             try {
-                Thread.sleep(3000); // 3초
+                scrapConcurrencyLimiter.acquire();
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
+                return ScrapOutcome.FAILED;
             }
+            
+            // 상위 서버 요청만 측정하고 permit 을 돌려준 뒤에 저장
+            // (DB 경합이 상위 서버 지연으로 보여서 한도가 줄어들지 않도록)
+            long start = System.nanoTime();
+            Optional<ScrapedResult> scrapedResult;
+            try {
+                scrapedResult = yahooFinanceScraper.scrapIfModified(
+                        new Company(company.getTicker(), company.getName()));
+                scrapConcurrencyLimiter.onSuccess(
+                        (System.nanoTime() - start) / 1_000_000);
+            } catch (RuntimeException e) {
+                if (!ScraperException.isRetryable(e)) {
+                    scrapConcurrencyLimiter.onIgnored();
+                    stats.failed();
+                    log.warn("scraping failed -> {} : {}",
+                             company.getTicker(), e.getMessage());
+                    return ScrapOutcome.FAILED;
+                }
+                
+                scrapConcurrencyLimiter.onDropped();
+                log.warn("scraping attempt {} failed -> {} : {}", attempt,
+                         company.getTicker(), e.getMessage());
+                
+                if (attempt < scrapRetryPolicy.maxAttempts()) {
+                    try {
+                        Thread.sleep(scrapRetryPolicy.backoffMillis(attempt));
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        return ScrapOutcome.FAILED;
+                    }
+                }
+                continue;
+            }
+            
+            scrapRetryQueue.reset(company.getTicker());
+            return saveScrapedResult(company, scrapedResult, stats);
+        }
+        
+        // 실행 전체를 멈추지 않고 재시도 큐로 넘김
+        stats.failed();
+        if (!scrapRetryQueue.add(company.getTicker())) {
+            log.warn("retry attempts exhausted, wait for next schedule -> {}",
+                     company.getTicker());
+        }
+        return ScrapOutcome.FAILED;
+    }
+    
+    private ScrapOutcome saveScrapedResult(
+            CompanyEntity company, Optional<ScrapedResult> scrapedResult,
+            ScrapRunStats stats) {
+        // 지난 실행 이후 변경이 없으면 파싱/저장 생략
+        if (scrapedResult.isEmpty()) {
+            stats.skipped();
+            return ScrapOutcome.SKIPPED;
+        }
+        
+        List<DividendEntity> saved;
+        try {
+            // 스크래핑한 배당금 정보 중 DB 에 없는 값 저장
+            saved = dividendService.saveNewDividends(
+                    company, scrapedResult.get().getDividendEntities());
+        } catch (RuntimeException e) {
+            stats.failed();
+            log.warn("saving scraped dividends failed -> {} : {}",
+                     company.getTicker(), e.getMessage());
+            return ScrapOutcome.FAILED;
         }
         
-        log.info(
-                "Scheduled yahooFinanceScheduling ends at {}",
-                LocalTime.now());
+        // 커밋된 뒤에만 검증값을 남겨서, 실패하면 다음 실행에서 같은 페이지를 다시 처리
+        ScrapValidator validator = scrapedResult.get().getValidator();
+        if (validator != null) {
+            scrapValidatorStore.put(company.getTicker(), validator);
+        }
+        stats.scraped(saved.size());
+        
+        if (!saved.isEmpty()) {
+            evictFinanceCache(company.getName());
+        }
+        return ScrapOutcome.SUCCESS;
+    }
+    
+    private void evictFinanceCache(String companyName) {
+        Cache cache = redisCacheManager.getCache(CacheKey.KEY_FINANCE);
+        if (cache != null) {
+            cache.evict(companyName);
+        }
     }
 }
@@ -0,0 +1,75 @@
+package zerobase.dividend.scraper;
+
+import lombok.extern.slf4j.Slf4j;
+
+// AIMD 방식의 동시 요청 수 제한
+// - 정상 응답: 한도만큼 성공할 때마다 한도 +1 (가산 증가)
+// - 429/5xx/지연 초과: 한도 절반 (승산 감소)
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+    private static final double BACKOFF_RATIO = 0.5;
+    
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdMillis;
+    
+    private double limit;
+    private int inFlight;
+    
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit,
+                                      int maxLimit,
+                                      long latencyThresholdMillis) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdMillis = latencyThresholdMillis;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+    
+    public synchronized void acquire() throws InterruptedException {
+        while (inFlight >= (int) limit) {
+            wait();
+        }
+        inFlight++;
+    }
+    
+    public synchronized void onSuccess(long latencyMillis) {
+        if (latencyMillis > latencyThresholdMillis) {
+            decrease();
+        } else {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+        release();
+    }
+    
+    public synchronized void onDropped() {
+        decrease();
+        release();
+    }
+    
+    // 상위 서버와 무관한 실패(파싱 오류 등)는 한도를 바꾸지 않음
+    public synchronized void onIgnored() {
+        release();
+    }
+    
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+    
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+    
+    private void decrease() {
+        double decreased = Math.max(minLimit, limit * BACKOFF_RATIO);
+        if ((int) decreased != (int) limit) {
+            log.info("Scraper concurrency limit decreased {} -> {}",
+                     (int) limit, (int) decreased);
+        }
+        limit = decreased;
+    }
+    
+    private void release() {
+        inFlight--;
+        notifyAll();
+    }
+}
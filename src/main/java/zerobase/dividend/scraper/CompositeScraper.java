@@ -0,0 +1,230 @@
+package zerobase.dividend.scraper;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import zerobase.dividend.exception.ScraperException;
+import zerobase.dividend.model.Company;
+import zerobase.dividend.model.ScrapedResult;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// 여러 소스를 하나의 Scraper 로 묶음
+// - 회사 등록처럼 사용자가 기다리는 요청: 건강 점수 순으로 보내고, 지연되면 다음 소스로 헤지
+// - 스케줄러의 변경 확인(scrapIfModified): 요청 수를 늘리지 않도록 실패했을 때만 다음 소스로
+@Slf4j
+public class CompositeScraper implements Scraper, MeterBinder {
+    private final List<ScrapSource> sources;
+    private final HedgePolicy hedgePolicy;
+    
+    private final ExecutorService executor =
+            Executors.newVirtualThreadPerTaskExecutor();
+    private final LongAdder hedged = new LongAdder();
+    
+    public CompositeScraper(List<ScrapSource> sources,
+                            HedgePolicy hedgePolicy) {
+        if (sources.isEmpty()) {
+            throw new IllegalArgumentException("no scrap source");
+        }
+        this.sources = List.copyOf(sources);
+        this.hedgePolicy = hedgePolicy;
+    }
+    
+    @Override
+    public ScrapedResult scrap(Company company) {
+        return hedged(scraper -> scraper.scrap(company));
+    }
+    
+    @Override
+    public Company scrapCompanyByTicker(String ticker) {
+        return hedged(scraper -> scraper.scrapCompanyByTicker(ticker));
+    }
+    
+    @Override
+    public ScrapedResult scrapCompanyWithDividends(String ticker) {
+        return hedged(scraper -> scraper.scrapCompanyWithDividends(ticker));
+    }
+    
+    @Override
+    public Optional<ScrapedResult> scrapIfModified(Company company) {
+        RuntimeException failure = null;
+        for (ScrapSource source : order()) {
+            try {
+                return invoke(source, scraper -> scraper.scrapIfModified(
+                        company));
+            } catch (RuntimeException e) {
+                failure = e;
+                if (isDefinitive(e)) {
+                    break;
+                }
+            }
+        }
+        throw failure;
+    }
+    
+    public List<ScrapSource> getSources() {
+        return sources;
+    }
+    
+    public long getHedgedCount() {
+        return hedged.sum();
+    }
+    
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (ScrapSource source : sources) {
+            Gauge.builder("scraper.source.health", source,
+                          ScrapSource::getScore)
+                    .tag("source", source.getName())
+                    .register(registry);
+        }
+        FunctionCounter.builder("scraper.hedged", hedged, LongAdder::sum)
+                .register(registry);
+    }
+    
+    // 첫 번째로 null 이 아닌 결과를 사용, 모두 null 이면 null (ticker 없음)
+    private <T> T hedged(Function<Scraper, T> call) {
+        List<ScrapSource> ordered = order();
+        if (ordered.size() == 1) {
+            return invoke(ordered.getFirst(), call);
+        }
+        
+        CompletionService<T> completion =
+                new ExecutorCompletionService<>(executor);
+        List<Future<T>> futures = new ArrayList<>();
+        RuntimeException failure = null;
+        boolean empty = false;
+        int pending = 0;
+        
+        try {
+            while (pending > 0 || futures.size() < ordered.size()) {
+                if (pending == 0) {
+                    futures.add(submit(completion, ordered, futures.size(),
+                                       call));
+                    pending++;
+                    continue;
+                }
+                
+                Future<T> done;
+                if (futures.size() < ordered.size()) {
+                    ScrapSource last = ordered.get(futures.size() - 1);
+                    done = completion.poll(hedgePolicy.delayMillis(last),
+                                           TimeUnit.MILLISECONDS);
+                    if (done == null) {
+                        hedged.increment();
+                        futures.add(submit(completion, ordered, futures.size(),
+                                           call));
+                        pending++;
+                        continue;
+                    }
+                } else {
+                    done = completion.take();
+                }
+                pending--;
+                
+                try {
+                    T result = done.get();
+                    if (result != null) {
+                        return result;
+                    }
+                    empty = true;
+                } catch (ExecutionException e) {
+                    RuntimeException cause = unwrap(e);
+                    if (isDefinitive(cause)) {
+                        throw cause;
+                    }
+                    failure = cause;
+                }
+                
+                // 실패하거나 결과가 없으면 헤지 대기 없이 바로 다음 소스로
+                if (futures.size() < ordered.size()) {
+                    futures.add(submit(completion, ordered, futures.size(),
+                                       call));
+                    pending++;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ScraperException.UpstreamIOException("interrupted");
+        } finally {
+            // 늦게 도착하는 응답은 버림
+            futures.forEach(e -> e.cancel(true));
+        }
+        
+        if (empty || failure == null) {
+            return null;
+        }
+        throw failure;
+    }
+    
+    private <T> Future<T> submit(CompletionService<T> completion,
+                                 List<ScrapSource> ordered, int index,
+                                 Function<Scraper, T> call) {
+        ScrapSource source = ordered.get(index);
+        return completion.submit(() -> invoke(source, call));
+    }
+    
+    private <T> T invoke(ScrapSource source, Function<Scraper, T> call) {
+        long start = System.nanoTime();
+        try {
+            T result = call.apply(source.getScraper());
+            source.onSuccess((System.nanoTime() - start) / 1_000_000);
+            return result;
+        } catch (RuntimeException e) {
+            // 헤지에서 져서 취소된 요청은 소스 탓이 아님
+            if (!Thread.currentThread().isInterrupted()) {
+                if (isDefinitive(e)) {
+                    source.onSuccess((System.nanoTime() - start) / 1_000_000);
+                } else {
+                    source.onFailure(System.currentTimeMillis(), hedgePolicy);
+                    log.warn("scrap source {} failed : {}", source.getName(),
+                             e.getMessage());
+                }
+            }
+            throw e;
+        }
+    }
+    
+    // 사용 가능한 소스를 건강 점수 순으로, 모두 나쁘면 나쁜 소스라도 시도
+    private List<ScrapSource> order() {
+        long now = System.currentTimeMillis();
+        List<ScrapSource> available = new ArrayList<>();
+        List<ScrapSource> degraded = new ArrayList<>();
+        for (ScrapSource source : sources) {
+            (source.isAvailable(now, hedgePolicy) ? available : degraded)
+                    .add(source);
+        }
+        
+        Comparator<ScrapSource> byScore = Comparator.comparingDouble(
+                ScrapSource::getScore).reversed();
+        available.sort(byScore);
+        degraded.sort(byScore);
+        available.addAll(degraded);
+        return available;
+    }
+    
+    // 404 처럼 다른 소스에 물어도 같은 답일 실패 (429 제외)
+    private static boolean isDefinitive(RuntimeException e) {
+        return e instanceof ScraperException.UpstreamStatusException status &&
+                status.getUpstreamStatus() >= 400 &&
+                status.getUpstreamStatus() < 500 &&
+                status.getUpstreamStatus() !=
+                        HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+    
+    private static RuntimeException unwrap(ExecutionException e) {
+        return e.getCause() instanceof RuntimeException cause ? cause :
+                new ScraperException.UpstreamIOException(
+                        String.valueOf(e.getCause()));
+    }
+}
@@ -0,0 +1,15 @@
+package zerobase.dividend.scraper;
+
+// 헤지 요청과 소스 건강도 기준
+// - 먼저 보낸 소스가 최근 지연 시간의 percentile 안에 응답하지 않으면 다음 소스로 같은 요청
+// - 건강 점수가 healthThreshold 아래로 내려간 소스는 cooldown 동안 뒤로 미룸
+public record HedgePolicy(double percentile, long minDelayMillis,
+                          long maxDelayMillis, double healthThreshold,
+                          long cooldownMillis) {
+    
+    // 지연 기록이 없으면 최대 대기 시간만큼 기다림
+    public long delayMillis(ScrapSource source) {
+        long observed = source.latencyPercentile(percentile, maxDelayMillis);
+        return Math.max(minDelayMillis, Math.min(maxDelayMillis, observed));
+    }
+}
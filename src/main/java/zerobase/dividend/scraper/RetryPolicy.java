@@ -0,0 +1,15 @@
+package zerobase.dividend.scraper;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// 지터를 포함한 지수 백오프 (full jitter)
+public record RetryPolicy(int maxAttempts, long baseDelayMillis,
+                          long maxDelayMillis) {
+    
+    // attempt 는 1부터 시작
+    public long backoffMillis(int attempt) {
+        long exp = baseDelayMillis << Math.min(attempt - 1, 20);
+        long cap = Math.min(maxDelayMillis, exp);
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+}
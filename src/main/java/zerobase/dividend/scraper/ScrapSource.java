@@ -0,0 +1,66 @@
+package zerobase.dividend.scraper;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+// 스크래핑 소스 하나 (base-url + 파서) 와 최근 지연 시간, 건강 점수
+public class ScrapSource {
+    private static final int WINDOW = 128;
+    
+    // 건강 점수 지수 이동 평균 가중치
+    private static final double ALPHA = 0.2;
+    
+    @Getter
+    private final String name;
+    @Getter
+    private final Scraper scraper;
+    
+    private final long[] latencies = new long[WINDOW];
+    private int count;
+    private int cursor;
+    
+    private double score = 1.0;
+    private long degradedUntil;
+    
+    public ScrapSource(String name, Scraper scraper) {
+        this.name = name;
+        this.scraper = scraper;
+    }
+    
+    public synchronized void onSuccess(long latencyMillis) {
+        latencies[cursor] = latencyMillis;
+        cursor = (cursor + 1) % WINDOW;
+        count = Math.min(count + 1, WINDOW);
+        score = score * (1 - ALPHA) + ALPHA;
+    }
+    
+    public synchronized void onFailure(long nowMillis, HedgePolicy policy) {
+        score = score * (1 - ALPHA);
+        if (score < policy.healthThreshold()) {
+            degradedUntil = nowMillis + policy.cooldownMillis();
+        }
+    }
+    
+    // 점수가 낮아도 cooldown 이 지나면 다시 시도해서 회복 여부 확인
+    public synchronized boolean isAvailable(long nowMillis,
+                                            HedgePolicy policy) {
+        return score >= policy.healthThreshold() || nowMillis >= degradedUntil;
+    }
+    
+    public synchronized double getScore() {
+        return score;
+    }
+    
+    public synchronized long latencyPercentile(double percentile,
+                                               long defaultMillis) {
+        if (count == 0) {
+            return defaultMillis;
+        }
+        
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * count) - 1;
+        return sorted[Math.max(0, Math.min(count - 1, index))];
+    }
+}
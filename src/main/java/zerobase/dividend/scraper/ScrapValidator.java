@@ -0,0 +1,6 @@
+package zerobase.dividend.scraper;
+
+// source : 페이지를 받은 소스의 base URL (ETag/Last-Modified 는 호스트마다 다름)
+public record ScrapValidator(String source, String etag, String lastModified,
+                             long fingerprint) {
+}
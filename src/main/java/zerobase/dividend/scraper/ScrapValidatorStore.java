@@ -0,0 +1,27 @@
+package zerobase.dividend.scraper;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 소스와 ticker 별 마지막 스크래핑 결과의 검증값(ETag, Last-Modified, 테이블 해시)
+// 한 소스의 ETag 를 다른 호스트에 보내지 않도록 소스마다 따로 보관
+// 노드 메모리에만 있으므로 재시작하거나 다른 노드가 맡으면 ticker 마다 한 번은 전체를 받음
+@Component
+public class ScrapValidatorStore {
+    private final Map<String, ScrapValidator> validators =
+            new ConcurrentHashMap<>();
+    
+    public ScrapValidator get(String source, String ticker) {
+        return validators.get(key(source, ticker));
+    }
+    
+    public void put(String ticker, ScrapValidator validator) {
+        validators.put(key(validator.source(), ticker), validator);
+    }
+    
+    private static String key(String source, String ticker) {
+        return source + " " + ticker;
+    }
+}
@@ -3,8 +3,25 @@ package zerobase.dividend.scraper;
 import zerobase.dividend.model.Company;
 import zerobase.dividend.model.ScrapedResult;
 
+import java.util.Optional;
+
 public interface Scraper {
     ScrapedResult scrap(Company company);
     
     Company scrapCompanyByTicker(String ticker);
+    
+    // 회사 정보와 배당금 정보를 가능한 한 적은 요청으로 함께 조회
+    default ScrapedResult scrapCompanyWithDividends(String ticker) {
+        Company company = scrapCompanyByTicker(ticker);
+        if (company == null) {
+            return null;
+        }
+        
+        return scrap(company);
+    }
+    
+    // 지난 스크래핑 이후 변경이 없으면 empty 반환
+    default Optional<ScrapedResult> scrapIfModified(Company company) {
+        return Optional.of(scrap(company));
+    }
 }
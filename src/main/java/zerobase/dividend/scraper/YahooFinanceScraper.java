@@ -1,31 +1,35 @@
 package zerobase.dividend.scraper;
 
-import org.jsoup.Connection;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
-import org.springframework.stereotype.Component;
+import lombok.RequiredArgsConstructor;
+import zerobase.dividend.exception.ScraperException;
 import zerobase.dividend.model.Company;
-import zerobase.dividend.model.Dividend;
 import zerobase.dividend.model.ScrapedResult;
-import zerobase.dividend.type.Month;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
 
-@Component
+// 야후 형식의 페이지를 제공하는 소스 하나 (ScraperConfig 에서 base-url 별로 생성)
+@RequiredArgsConstructor
 public class YahooFinanceScraper implements Scraper {
     
-    private static final String STATIC_URL = "https://finance.yahoo" +
-            ".com/quote/%s/history?period1=%d&period2=%d&filter=div&frequency" +
-            "=1mo";
-    private static final String SUMMARY_URL = "https://finance.yahoo" +
-            ".com/quote/%s";
+    private static final String STATIC_URL = "%s/quote/%s/history?period1=%d" +
+            "&period2=%d&filter=div&frequency=1mo";
+    private static final String SUMMARY_URL = "%s/quote/%s";
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; " +
+            "Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) " +
+            "Chrome/123.0.0.0 Safari/537.36";
     
     private static final long START_TIME = 86400; // 60 * 60 * 24 = 86400초 = 1일
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    
+    private final HttpClient httpClient;
+    private final ScrapValidatorStore scrapValidatorStore;
+    private final String baseUrl;
     
     @Override
     public ScrapedResult scrap(Company company) {
@@ -33,62 +37,133 @@ public class YahooFinanceScraper implements Scraper {
         scrapedResult.setCompany(company);
         
         try {
-            long now = System.currentTimeMillis() / 1000;
-            List<Dividend> dividends = new ArrayList<>();
+            String html = fetch(historyUrl(company.getTicker()));
             
-            String url = String.format(STATIC_URL, company.getTicker(),
-                                       START_TIME, now);
-            Connection connection = Jsoup.connect(url);
-            Document document = connection.get();
+            // DOM 대신 원문에서 바로 historical-prices 행만 추출
+            scrapedResult.setDividendEntities(
+                    YahooHistoryParser.parseDividends(html));
             
-            Elements elements = document.getElementsByAttributeValue(
-                    "data-test", "historical-prices");
-            Element element = elements.getFirst();
+        } catch (IOException e) {
+            throw new ScraperException.UpstreamIOException(e.getMessage());
+        }
+        
+        return scrapedResult;
+    }
+    
+    @Override
+    public Company scrapCompanyByTicker(String ticker) {
+        String url = String.format(SUMMARY_URL, baseUrl, ticker);
+        
+        try {
+            String title = YahooHistoryParser.parseCompanyName(fetch(url));
             
-            Element tbody = element.children().get(1);
+            return title == null ? null : new Company(ticker, title);
             
-            for (Element e : tbody.children()) {
-                String txt = e.text();
-                
-                String[] splits = txt.split(" ");
-                int month = Month.strToNumber(splits[0]);
-                int day = Integer.parseInt(splits[1].replace(",", ""));
-                int year = Integer.parseInt(splits[2]);
-                String dividend = splits[3];
-                
-                if (month < 0) {
-                    throw new RuntimeException("Unexpected Month enum value " +
-                                                       "-> " + splits[0]);
-                }
-                
-                dividends.add(
-                        new Dividend(
-                                LocalDateTime.of(year, month, day, 0, 0),
-                                dividend));
+        } catch (IOException e) {
+            throw new ScraperException.UpstreamIOException(e.getMessage());
+        }
+    }
+    
+    // 히스토리 페이지 헤더에도 회사명이 있으므로 요청 한 번으로 처리
+    @Override
+    public ScrapedResult scrapCompanyWithDividends(String ticker) {
+        try {
+            String html = fetch(historyUrl(ticker));
+            
+            String title = YahooHistoryParser.parseCompanyName(html);
+            if (title == null) {
+                return null;
             }
-            scrapedResult.setDividendEntities(dividends);
+            
+            return new ScrapedResult(
+                    new Company(ticker, title),
+                    YahooHistoryParser.parseDividends(html));
             
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            throw new ScraperException.UpstreamIOException(e.getMessage());
         }
-        
-        return scrapedResult;
     }
     
     @Override
-    public Company scrapCompanyByTicker(String ticker) {
-        String url = String.format(SUMMARY_URL, ticker);
+    public Optional<ScrapedResult> scrapIfModified(Company company) {
+        String ticker = company.getTicker();
+        ScrapValidator previous = scrapValidatorStore.get(baseUrl, ticker);
         
         try {
-            Document document = Jsoup.connect(url).get();
-            Element element = document.getElementsByTag("h1").getFirst();
+            HttpRequest.Builder builder = requestBuilder(historyUrl(ticker));
+            if (previous != null && previous.etag() != null) {
+                builder.header("If-None-Match", previous.etag());
+            }
+            if (previous != null && previous.lastModified() != null) {
+                builder.header("If-Modified-Since", previous.lastModified());
+            }
+            
+            HttpResponse<String> response = send(builder.build());
+            if (response.statusCode() == 304) {
+                return Optional.empty();
+            }
+            checkStatus(response);
             
-            String title = element.text().split("\\(")[0].trim();
+            // 헤더 검증이 불가능한 경우에도 테이블 해시가 같으면 파싱/저장 생략
+            String html = response.body();
+            long fingerprint = YahooHistoryParser.fingerprint(html);
+            ScrapValidator validator = new ScrapValidator(
+                    baseUrl,
+                    response.headers().firstValue("ETag").orElse(null),
+                    response.headers().firstValue("Last-Modified").orElse(null),
+                    fingerprint);
             
-            return new Company(ticker, title);
+            // 이전 검증값은 저장이 끝난 페이지의 것이므로 헤더만 바뀐 경우 바로 갱신
+            if (previous != null && previous.fingerprint() == fingerprint) {
+                scrapValidatorStore.put(ticker, validator);
+                return Optional.empty();
+            }
+            
+            // 새 검증값은 배당금이 커밋된 뒤에 호출하는 쪽에서 저장
+            // (파싱이나 저장이 실패하면 다음 실행에서 다시 받아옴)
+            ScrapedResult result = new ScrapedResult(
+                    company, YahooHistoryParser.parseDividends(html));
+            result.setValidator(validator);
+            return Optional.of(result);
             
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            throw new ScraperException.UpstreamIOException(e.getMessage());
+        }
+    }
+    
+    private String historyUrl(String ticker) {
+        long now = System.currentTimeMillis() / 1000;
+        return String.format(STATIC_URL, baseUrl, ticker, START_TIME, now);
+    }
+    
+    // 공유 HttpClient 의 keep-alive 커넥션 풀을 재사용
+    private String fetch(String url) throws IOException {
+        HttpResponse<String> response = send(requestBuilder(url).build());
+        checkStatus(response);
+        return response.body();
+    }
+    
+    private HttpRequest.Builder requestBuilder(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("User-Agent", USER_AGENT)
+                .timeout(REQUEST_TIMEOUT)
+                .GET();
+    }
+    
+    private HttpResponse<String> send(HttpRequest request) throws IOException {
+        try {
+            return httpClient.send(
+                    request, HttpResponse.BodyHandlers.ofString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+    
+    private void checkStatus(HttpResponse<String> response) {
+        if (response.statusCode() != 200) {
+            throw new ScraperException.UpstreamStatusException(
+                    response.statusCode(), "-> " + response.uri());
         }
     }
 }
@@ -0,0 +1,192 @@
+package zerobase.dividend.scraper;
+
+import org.jsoup.parser.Parser;
+import zerobase.dividend.model.Dividend;
+import zerobase.dividend.type.Month;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// DOM 을 만들지 않고 historical-prices 테이블의 행만 훑어서 배당금을 추출
+public final class YahooHistoryParser {
+    
+    private static final String TABLE_MARKER =
+            "data-test=\"historical-prices\"";
+    private static final String TBODY_START = "<tbody";
+    private static final String TBODY_END = "</tbody>";
+    private static final String ROW_START = "<tr";
+    private static final String ROW_END = "</tr>";
+    private static final String TITLE_START = "<h1";
+    private static final String TITLE_END = "</h1>";
+    private static final String DIVIDEND_LABEL = "Dividend";
+    
+    // 날짜(월, 일, 년) + 배당금 + "Dividend" 라벨
+    private static final int TOKEN_COUNT = 5;
+    
+    private YahooHistoryParser() {
+    }
+    
+    // 요약/히스토리 페이지 공통 헤더 "3M Company (MMM)" 에서 회사명만 추출
+    public static String parseCompanyName(String html) {
+        int titleStart = html.indexOf(TITLE_START);
+        if (titleStart < 0) {
+            return null;
+        }
+        int textStart = html.indexOf('>', titleStart) + 1;
+        int titleEnd = html.indexOf(TITLE_END, textStart);
+        if (textStart <= 0 || titleEnd < 0) {
+            return null;
+        }
+        
+        StringBuilder text = new StringBuilder(titleEnd - textStart);
+        boolean inTag = false;
+        for (int i = textStart; i < titleEnd; i++) {
+            char c = html.charAt(i);
+            if (c == '<' || c == '>') {
+                inTag = c == '<';
+            } else if (!inTag) {
+                text.append(c);
+            }
+        }
+        
+        String title = Parser.unescapeEntities(text.toString(), false)
+                .split("\\(")[0].trim();
+        return title.isEmpty() ? null : title;
+    }
+    
+    // 배당금 테이블 구간만 FNV-1a 64bit 로 해싱 (변경 여부 판단용, 테이블이 없으면 0)
+    public static long fingerprint(String html) {
+        int table = html.indexOf(TABLE_MARKER);
+        int bodyStart = table < 0 ? -1 : html.indexOf(TBODY_START, table);
+        int bodyEnd = bodyStart < 0 ? -1 : html.indexOf(TBODY_END, bodyStart);
+        if (bodyEnd < 0) {
+            return 0;
+        }
+        
+        long hash = 0xcbf29ce484222325L;
+        for (int i = bodyStart; i < bodyEnd; i++) {
+            hash ^= html.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+    
+    public static List<Dividend> parseDividends(String html) {
+        int table = html.indexOf(TABLE_MARKER);
+        if (table < 0) {
+            throw new RuntimeException("historical-prices table not found");
+        }
+        
+        int bodyStart = html.indexOf(TBODY_START, table);
+        int bodyEnd = bodyStart < 0 ? -1 : html.indexOf(TBODY_END, bodyStart);
+        if (bodyEnd < 0) {
+            throw new RuntimeException("historical-prices tbody not found");
+        }
+        
+        List<Dividend> dividends = new ArrayList<>();
+        int[] tokens = new int[TOKEN_COUNT * 2];
+        
+        int pos = bodyStart;
+        while (true) {
+            int rowStart = html.indexOf(ROW_START, pos);
+            if (rowStart < 0 || rowStart >= bodyEnd) {
+                break;
+            }
+            int rowEnd = html.indexOf(ROW_END, rowStart);
+            if (rowEnd < 0 || rowEnd > bodyEnd) {
+                rowEnd = bodyEnd;
+            }
+            
+            // 태그 이름(<tr)은 건너뛰고 '>' 이후부터 토큰화
+            int found = tokenize(html, html.indexOf('>', rowStart) + 1,
+                                 rowEnd, tokens);
+            // 주식 분할, 시세 행은 라벨이 달라서 건너뜀
+            if (found == TOKEN_COUNT && isDividendRow(html, tokens)) {
+                dividends.add(toDividend(html, tokens));
+            }
+            pos = rowEnd + ROW_END.length();
+        }
+        
+        return dividends;
+    }
+    
+    // 태그 바깥의 텍스트를 공백/콤마/태그 경계로 나누고, 앞에서부터 토큰 위치만 기록
+    static int tokenize(String html, int from, int to, int[] tokens) {
+        int count = 0;
+        int tokenStart = -1;
+        boolean inTag = false;
+        
+        for (int i = from; i < to && count < TOKEN_COUNT; i++) {
+            char c = html.charAt(i);
+            
+            if (inTag) {
+                if (c == '>') {
+                    inTag = false;
+                }
+                continue;
+            }
+            
+            boolean separator = c == '<' || c == ',' ||
+                    Character.isWhitespace(c);
+            if (separator) {
+                if (tokenStart >= 0) {
+                    tokens[count * 2] = tokenStart;
+                    tokens[count * 2 + 1] = i;
+                    count++;
+                    tokenStart = -1;
+                }
+                inTag = c == '<';
+            } else if (tokenStart < 0) {
+                tokenStart = i;
+            }
+        }
+        
+        if (tokenStart >= 0 && count < TOKEN_COUNT) {
+            tokens[count * 2] = tokenStart;
+            tokens[count * 2 + 1] = to;
+            count++;
+        }
+        return count;
+    }
+    
+    private static boolean isDividendRow(String html, int[] tokens) {
+        int start = tokens[8];
+        int end = tokens[9];
+        return end - start == DIVIDEND_LABEL.length() &&
+                html.regionMatches(start, DIVIDEND_LABEL, 0, end - start);
+    }
+    
+    private static Dividend toDividend(String html, int[] tokens) {
+        int month = Month.strToNumber(html, tokens[0], tokens[1]);
+        if (month < 0) {
+            throw new RuntimeException("Unexpected Month enum value -> " +
+                                               html.substring(tokens[0],
+                                                              tokens[1]));
+        }
+        
+        int day = parseInt(html, tokens[2], tokens[3]);
+        int year = parseInt(html, tokens[4], tokens[5]);
+        String dividend = html.substring(tokens[6], tokens[7]);
+        
+        return new Dividend(LocalDateTime.of(year, month, day, 0, 0), dividend);
+    }
+    
+    static int parseInt(String s, int start, int end) {
+        if (start >= end) {
+            throw new NumberFormatException("empty number");
+        }
+        
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException(
+                        "For input string: \"" + s.substring(start, end) +
+                                "\"");
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+}
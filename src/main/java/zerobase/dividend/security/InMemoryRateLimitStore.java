@@ -0,0 +1,78 @@
+package zerobase.dividend.security;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 노드마다 따로 세는 토큰 버킷 (단일 노드 / 로컬용)
+public class InMemoryRateLimitStore implements RateLimitStore {
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    
+    @Override
+    public long tryAcquire(String key, RateLimitPolicy policy) {
+        long now = System.nanoTime();
+        long waitNanos = buckets.computeIfAbsent(
+                        key, k -> new TokenBucket(policy, now))
+                .tryConsume(now);
+        return waitNanos == 0 ? 0 : Math.max(1, waitNanos / 1_000_000);
+    }
+    
+    // 가득 찬(다시 채워질 만큼 요청이 없던) 버킷은 지워도 새로 만든 것과 같으므로 주기적으로 정리
+    // (요청 경로에서 전체를 훑지 않도록 스케줄러에서만 실행)
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval}",
+               initialDelayString = "${rate-limit.sweep-interval}")
+    public void sweep() {
+        sweep(System.nanoTime());
+    }
+    
+    int sweep(long now) {
+        int before = buckets.size();
+        buckets.values().removeIf(e -> e.isFull(now));
+        return before - buckets.size();
+    }
+    
+    public int size() {
+        return buckets.size();
+    }
+    
+    // 토큰 수는 나노초 단위로 환산해서 정수로 계산
+    private static class TokenBucket {
+        private final long capacityNanos;
+        private final long nanosPerToken;
+        
+        private long availableNanos;
+        private long updatedAt;
+        
+        private TokenBucket(RateLimitPolicy policy, long now) {
+            this.nanosPerToken = policy.nanosPerToken();
+            this.capacityNanos = nanosPerToken * policy.capacity();
+            this.availableNanos = capacityNanos;
+            this.updatedAt = now;
+        }
+        
+        private synchronized long tryConsume(long now) {
+            refill(now);
+            if (availableNanos >= nanosPerToken) {
+                availableNanos -= nanosPerToken;
+                return 0;
+            }
+            return nanosPerToken - availableNanos;
+        }
+        
+        private synchronized boolean isFull(long now) {
+            refill(now);
+            return availableNanos >= capacityNanos;
+        }
+        
+        // 정리 스레드가 조금 전 시각으로 호출해도 시간이 거꾸로 가지 않도록
+        private void refill(long now) {
+            if (now <= updatedAt) {
+                return;
+            }
+            availableNanos = Math.min(capacityNanos,
+                                      availableNanos + (now - updatedAt));
+            updatedAt = now;
+        }
+    }
+}
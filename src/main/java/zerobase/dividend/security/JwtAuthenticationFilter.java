@@ -1,5 +1,7 @@
 package zerobase.dividend.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,18 +24,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     public static final String TOKEN_HEADER = "Authorization";
     public static final String TOKEN_PREFIX = "Bearer ";
     private final TokenProvider tokenProvider;
+    private final MeterRegistry meterRegistry;
     
     @Override
     protected void doFilterInternal(
             HttpServletRequest request, HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
         String token = resolveTokenFromRequest(request);
+        String result = StringUtils.hasText(token) ? "invalid" : "anonymous";
         
-        if (StringUtils.hasText(token) && tokenProvider.validateToken(token)) {
-            // 토큰 유효성 검증
-            Authentication auth = tokenProvider.getAuthentication(
-                    token);
-            SecurityContextHolder.getContext().setAuthentication(auth);
+        try {
+            if (StringUtils.hasText(token) &&
+                    tokenProvider.validateToken(token)) {
+                // 토큰 유효성 검증
+                Authentication auth = tokenProvider.getAuthentication(
+                        token);
+                SecurityContextHolder.getContext().setAuthentication(auth);
+                result = "authenticated";
+            }
+        } finally {
+            // 필터 자체의 처리 시간만 기록 (이후 체인은 제외)
+            sample.stop(meterRegistry.timer("jwt.filter", "result", result));
         }
         
         filterChain.doFilter(request, response);
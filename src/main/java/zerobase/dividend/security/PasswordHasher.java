@@ -0,0 +1,81 @@
+package zerobase.dividend.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import zerobase.dividend.exception.MemberException;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// BCrypt 는 요청 스레드가 아닌 전용 스레드에서만 실행
+// - 스레드 수와 대기열 크기를 제한해서 로그인이 몰려도 조회 요청이 쓸 CPU/스레드를 남김
+// - 대기열이 가득 차면 바로 거절 (503)
+@Slf4j
+public class PasswordHasher implements MeterBinder {
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    
+    private final LongAdder rejected = new LongAdder();
+    
+    public PasswordHasher(PasswordEncoder passwordEncoder, int threads,
+                          int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(
+                            r, "password-hasher-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+    
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+    
+    public CompletableFuture<Boolean> matches(String rawPassword,
+                                              String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(
+                rawPassword, encodedPassword));
+    }
+    
+    public void shutdown() {
+        executor.shutdown();
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("auth.hashing.queue", executor,
+                      e -> e.getQueue().size())
+                .register(registry);
+        Gauge.builder("auth.hashing.active", executor,
+                      ThreadPoolExecutor::getActiveCount)
+                .register(registry);
+        FunctionCounter.builder("auth.hashing.rejected", rejected,
+                                LongAdder::sum)
+                .register(registry);
+    }
+    
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("Password hashing rejected. Queue: {}",
+                     executor.getQueue().size());
+            return CompletableFuture.failedFuture(
+                    new MemberException.TooManyAuthRequestsException());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package zerobase.dividend.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import zerobase.dividend.exception.ErrorResponse;
+import zerobase.dividend.type.RateLimitClass;
+
+import java.io.IOException;
+import java.util.Map;
+
+// JwtAuthenticationFilter 다음에 실행, 로그인한 사용자는 JWT subject 로, 그 외는 IP 로 버킷을 나눔
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+    private final RateLimitStore rateLimitStore;
+    private final Map<RateLimitClass, RateLimitPolicy> policies;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    
+    public RateLimitFilter(RateLimitStore rateLimitStore,
+                           Map<RateLimitClass, RateLimitPolicy> policies,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.rateLimitStore = rateLimitStore;
+        this.policies = policies;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        RateLimitClass limitClass = RateLimitClass.of(
+                request.getMethod(), request.getServletPath());
+        RateLimitPolicy policy = policies.get(limitClass);
+        if (policy == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        
+        long retryAfterMillis;
+        try {
+            retryAfterMillis = rateLimitStore.tryAcquire(
+                    limitClass.name().toLowerCase() + ":" +
+                            resolveClientKey(request), policy);
+        } catch (RuntimeException e) {
+            // 저장소(레디스) 장애로 서비스 전체를 막지 않도록 통과시킴
+            log.warn("Rate limit store failed. Request allowed: {}",
+                     e.getMessage());
+            retryAfterMillis = 0;
+        }
+        
+        if (retryAfterMillis > 0) {
+            meterRegistry.counter("rate.limit.rejected",
+                                  "class", limitClass.name()).increment();
+            reject(response, retryAfterMillis);
+            return;
+        }
+        
+        filterChain.doFilter(request, response);
+    }
+    
+    private String resolveClientKey(HttpServletRequest request) {
+        Authentication auth =
+                SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() &&
+                !(auth instanceof AnonymousAuthenticationToken)) {
+            return "user:" + auth.getName();
+        }
+        
+        // 프록시 뒤라면 server.forward-headers-strategy 로 실제 IP 를 받음
+        return "ip:" + request.getRemoteAddr();
+    }
+    
+    private void reject(HttpServletResponse response, long retryAfterMillis)
+            throws IOException {
+        int statusCode = HttpStatus.TOO_MANY_REQUESTS.value();
+        response.setStatus(statusCode);
+        response.setHeader(HttpHeaders.RETRY_AFTER,
+                           String.valueOf((retryAfterMillis + 999) / 1000));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        
+        objectMapper.writeValue(response.getWriter(), ErrorResponse.builder()
+                .code(statusCode)
+                .message("too many requests")
+                .build());
+    }
+}
@@ -0,0 +1,9 @@
+package zerobase.dividend.security;
+
+// 토큰 버킷: 최대 capacity 개까지 모아 두고 분당 refillPerMinute 개씩 채움
+public record RateLimitPolicy(int capacity, int refillPerMinute) {
+    
+    public long nanosPerToken() {
+        return 60_000_000_000L / Math.max(1, refillPerMinute);
+    }
+}
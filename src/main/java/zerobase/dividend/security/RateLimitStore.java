@@ -0,0 +1,7 @@
+package zerobase.dividend.security;
+
+// 처리율 제한 버킷 저장소
+public interface RateLimitStore {
+    // 토큰을 하나 꺼내면 0, 부족하면 다음 토큰까지 기다려야 하는 시간(ms)
+    long tryAcquire(String key, RateLimitPolicy policy);
+}
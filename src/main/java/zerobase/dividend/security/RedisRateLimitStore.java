@@ -0,0 +1,51 @@
+package zerobase.dividend.security;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+// 여러 노드가 한도를 공유하는 토큰 버킷, 계산은 레디스 시각 기준의 스크립트 하나로 원자적으로 처리
+public class RedisRateLimitStore implements RateLimitStore {
+    private static final String KEY_PREFIX = "rate:";
+    
+    // ARGV[1] = capacity, ARGV[2] = 토큰 하나가 채워지는 시간(ms)
+    private static final RedisScript<Long> ACQUIRE_SCRIPT =
+            new DefaultRedisScript<>(
+                    "local capacity = tonumber(ARGV[1]) " +
+                            "local interval = tonumber(ARGV[2]) " +
+                            "local time = redis.call('time') " +
+                            "local now = time[1] * 1000 + " +
+                            "math.floor(time[2] / 1000) " +
+                            "local bucket = redis.call('hmget', KEYS[1], " +
+                            "'tokens', 'ts') " +
+                            "local tokens = tonumber(bucket[1]) or capacity " +
+                            "local ts = tonumber(bucket[2]) or now " +
+                            "tokens = math.min(capacity, " +
+                            "tokens + (now - ts) / interval) " +
+                            "local wait = 0 " +
+                            "if tokens >= 1 then tokens = tokens - 1 " +
+                            "else wait = math.ceil((1 - tokens) * interval) " +
+                            "end " +
+                            "redis.call('hset', KEYS[1], 'tokens', " +
+                            "tostring(tokens), 'ts', tostring(now)) " +
+                            "redis.call('pexpire', KEYS[1], " +
+                            "math.ceil(capacity * interval) + 1000) " +
+                            "return wait", Long.class);
+    
+    private final StringRedisTemplate redisTemplate;
+    
+    public RedisRateLimitStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+    
+    @Override
+    public long tryAcquire(String key, RateLimitPolicy policy) {
+        Long wait = redisTemplate.execute(
+                ACQUIRE_SCRIPT, List.of(KEY_PREFIX + key),
+                String.valueOf(policy.capacity()),
+                String.valueOf(policy.nanosPerToken() / 1_000_000.0));
+        return wait == null ? 0 : wait;
+    }
+}
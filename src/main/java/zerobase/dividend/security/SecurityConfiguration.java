@@ -24,6 +24,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfiguration {
     
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
     
     @Bean
     public AuthenticationManager authenticationManager(
@@ -43,12 +44,20 @@ public class SecurityConfiguration {
                     e
                             .requestMatchers("/auth/signin", "/auth/signup")
                             .permitAll()
+                            // 헬스 체크만 공개, 지표(metrics, prometheus)는 WRITE 권한
+                            .requestMatchers("/actuator/health",
+                                             "/actuator/health/**")
+                            .permitAll()
+                            .requestMatchers("/actuator/**")
+                            .hasRole("WRITE")
                             .anyRequest()
                             .permitAll();
                 })
                 .addFilterBefore(
                         jwtAuthenticationFilter,
-                        UsernamePasswordAuthenticationFilter.class);
+                        UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter,
+                                JwtAuthenticationFilter.class);
         
         return http.build();
     }
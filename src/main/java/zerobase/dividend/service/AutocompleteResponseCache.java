@@ -0,0 +1,57 @@
+package zerobase.dividend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 짧은 prefix(대부분의 키 입력)의 자동완성 응답을 직렬화된 그대로 보관하는 LRU
+// 회사가 추가/삭제되어 버전이 바뀌면 통째로 비움
+@Component
+public class AutocompleteResponseCache {
+    private final int maxPrefixLength;
+    private final Map<String, byte[]> responses;
+    
+    private long version = -1;
+    
+    public AutocompleteResponseCache(
+            @Value("${company.autocomplete.cache-prefix-length}")
+            int maxPrefixLength,
+            @Value("${company.autocomplete.cache-size}") int maxSize) {
+        this.maxPrefixLength = maxPrefixLength;
+        this.responses = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    Map.Entry<String, byte[]> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+    
+    public boolean isCacheable(String keyword) {
+        return keyword.length() <= maxPrefixLength;
+    }
+    
+    public synchronized byte[] get(String keyword, long version) {
+        if (this.version != version) {
+            return null;
+        }
+        return responses.get(keyword);
+    }
+    
+    public synchronized void put(String keyword, long version, byte[] body) {
+        if (!isCacheable(keyword) || version < this.version) {
+            return;
+        }
+        if (version > this.version) {
+            responses.clear();
+            this.version = version;
+        }
+        responses.put(keyword, body);
+    }
+    
+    public synchronized int size() {
+        return responses.size();
+    }
+}
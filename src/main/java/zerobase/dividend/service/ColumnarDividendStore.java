@@ -0,0 +1,292 @@
+package zerobase.dividend.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import zerobase.dividend.entity.CompanyEntity;
+import zerobase.dividend.entity.DividendEntity;
+import zerobase.dividend.event.CompanyDeletedEvent;
+import zerobase.dividend.event.DividendsInsertedEvent;
+import zerobase.dividend.model.Company;
+import zerobase.dividend.model.Dividend;
+import zerobase.dividend.model.ScrapedResult;
+import zerobase.dividend.repository.DividendRepository;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// 회사별 배당금 이력을 힙 밖의 컬럼(epoch day int / 고정소수점 long / version long / 소수점 자릿수 byte)으로
+// 보관하는 읽기 모델
+@Component
+@ConditionalOnProperty(name = "finance.read-model.columnar",
+                       havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ColumnarDividendStore implements MeterBinder {
+    // 배당금은 소수점 6자리까지 정수로 저장
+    static final int SCALE = 6;
+    
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int ROW_BYTES =
+            Integer.BYTES + Long.BYTES + Long.BYTES + Byte.BYTES;
+    
+    private final DividendRepository dividendRepository;
+    
+    private final Map<Long, Segment> segments = new ConcurrentHashMap<>();
+    
+    // 고정소수점으로 바꿀 수 없는 금액이 있는 회사는 JPA 경로로 조회
+    private final Set<Long> unsupported = ConcurrentHashMap.newKeySet();
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        segments.clear();
+        unsupported.clear();
+        
+        Map<Long, List<DividendEntity>> byCompany =
+                dividendRepository.findAll().stream()
+                        .sorted(Comparator.comparing(DividendEntity::getId))
+                        .collect(Collectors.groupingBy(
+                                DividendEntity::getCompanyId));
+        byCompany.forEach(this::append);
+        log.info("Columnar dividend store built. Companies: {}, bytes: {}",
+                 segments.size(), getOffHeapBytes());
+    }
+    
+    @TransactionalEventListener
+    public void handleDividendsInserted(DividendsInsertedEvent event) {
+        append(event.company().getId(), event.dividends());
+    }
+    
+    @TransactionalEventListener
+    public void handleCompanyDeleted(CompanyDeletedEvent event) {
+        event.companyIds().forEach(id -> {
+            segments.remove(id);
+            unsupported.remove(id);
+        });
+    }
+    
+    // DB 조회 없이 컬럼에서 바로 결과를 만듦, 보관하지 않은 회사는 empty
+    // 다른 노드가 저장한 배당금은 이 노드의 이벤트로 들어오지 않으므로
+    // DB 에 저장된 최대 version 과 다르면 empty (JPA 경로에서 replace 로 다시 채움)
+    public Optional<ScrapedResult> getScrapedResult(CompanyEntity company,
+                                                    long dividendVersion) {
+        Segment segment = segments.get(company.getId());
+        if (segment == null || segment.maxVersion() != dividendVersion) {
+            return Optional.empty();
+        }
+        
+        List<Dividend> dividends = new ArrayList<>(segment.size());
+        for (int i = 0; i < segment.size(); i++) {
+            dividends.add(new Dividend(
+                    LocalDate.ofEpochDay(segment.epochDay(i)).atStartOfDay(),
+                    toAmount(segment.amount(i), segment.scale(i)),
+                    segment.version(i)));
+        }
+        return Optional.of(new ScrapedResult(
+                new Company(company.getTicker(), company.getName()),
+                dividends, segment.maxVersion()));
+    }
+    
+    public long getOffHeapBytes() {
+        return segments.values().stream()
+                .mapToLong(e -> e.buffer().capacity())
+                .sum();
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("finance.columnar.bytes", this,
+                      ColumnarDividendStore::getOffHeapBytes)
+                .register(registry);
+        Gauge.builder("finance.columnar.companies", segments, Map::size)
+                .register(registry);
+    }
+    
+    // DB 에서 읽은 회사의 전체 이력으로 교체 (그 사이 이벤트로 더 최신이 된 경우는 유지)
+    public void replace(Long companyId, List<DividendEntity> dividends) {
+        Rows rows = toRows(companyId, dividends.stream()
+                .sorted(Comparator.comparing(DividendEntity::getId))
+                .toList());
+        if (rows == null) {
+            return;
+        }
+        
+        Segment fresh = Segment.append(null, rows.epochDays(), rows.amounts(),
+                                       rows.versions(), rows.scales());
+        segments.compute(companyId, (k, segment) ->
+                segment != null && segment.maxVersion() > fresh.maxVersion() ?
+                        segment : fresh);
+    }
+    
+    private void append(Long companyId, List<DividendEntity> dividends) {
+        Rows rows = toRows(companyId, dividends);
+        if (rows == null) {
+            return;
+        }
+        
+        // 같은 회사의 추가는 compute 로 직렬화, 읽기는 잠금 없이 이전 Segment 를 그대로 사용
+        // 커밋과 이벤트 사이에 캐시 미스 조회가 replace 로 이미 넣은 행은 건너뜀
+        // (한 번의 저장은 모두 같은 version 이므로 version 으로 구분됨)
+        segments.compute(companyId, (k, segment) -> {
+            Rows newer = segment == null ? rows :
+                    rows.newerThan(segment.maxVersion());
+            if (newer.size() == 0) {
+                return segment;
+            }
+            return Segment.append(segment, newer.epochDays(), newer.amounts(),
+                                  newer.versions(), newer.scales());
+        });
+    }
+    
+    // 고정소수점으로 바꿀 수 없는 금액이 있으면 null (이후 JPA 경로로 조회)
+    private Rows toRows(Long companyId, List<DividendEntity> dividends) {
+        if (unsupported.contains(companyId)) {
+            return null;
+        }
+        
+        int count = dividends.size();
+        int[] epochDays = new int[count];
+        long[] amounts = new long[count];
+        long[] versions = new long[count];
+        byte[] scales = new byte[count];
+        for (int i = 0; i < count; i++) {
+            DividendEntity dividend = dividends.get(i);
+            BigDecimal amount = toDecimal(dividend.getDividend());
+            if (amount == null) {
+                unsupported.add(companyId);
+                segments.remove(companyId);
+                log.warn("Company {} falls back to JPA read path. Amount: {}",
+                         companyId, dividend.getDividend());
+                return null;
+            }
+            epochDays[i] = (int) dividend.getDate().toLocalDate().toEpochDay();
+            amounts[i] = amount.movePointRight(SCALE).longValueExact();
+            versions[i] = dividend.getVersion();
+            scales[i] = (byte) amount.scale();
+        }
+        return new Rows(epochDays, amounts, versions, scales);
+    }
+    
+    // 저장된 문자열을 자릿수까지 그대로 되살릴 수 있는 금액만 (아니면 null)
+    // JPA 경로와 응답이 같아야 하므로 "1.510" 은 자릿수 3 으로 보관하고, 공백/지수 표기는 제외
+    static BigDecimal toDecimal(String amount) {
+        try {
+            BigDecimal decimal = new BigDecimal(amount);
+            if (decimal.scale() < 0 || decimal.scale() > SCALE ||
+                    !decimal.toPlainString().equals(amount)) {
+                return null;
+            }
+            decimal.movePointRight(SCALE).longValueExact();
+            return decimal;
+        } catch (ArithmeticException | NumberFormatException |
+                 NullPointerException e) {
+            return null;
+        }
+    }
+    
+    static String toAmount(long fixedPoint, int scale) {
+        return BigDecimal.valueOf(fixedPoint, SCALE).setScale(scale)
+                .toPlainString();
+    }
+    
+    private record Rows(int[] epochDays, long[] amounts, long[] versions,
+                        byte[] scales) {
+        int size() {
+            return epochDays.length;
+        }
+        
+        Rows newerThan(long version) {
+            int[] rows = IntStream.range(0, size())
+                    .filter(i -> versions[i] > version)
+                    .toArray();
+            if (rows.length == size()) {
+                return this;
+            }
+            
+            Rows newer = new Rows(new int[rows.length], new long[rows.length],
+                                  new long[rows.length],
+                                  new byte[rows.length]);
+            for (int i = 0; i < rows.length; i++) {
+                newer.epochDays[i] = epochDays[rows[i]];
+                newer.amounts[i] = amounts[rows[i]];
+                newer.versions[i] = versions[rows[i]];
+                newer.scales[i] = scales[rows[i]];
+            }
+            return newer;
+        }
+    }
+    
+    // [epoch day * capacity][amount * capacity][version * capacity][scale * capacity] 순서의 direct buffer
+    // 추가는 size 이후 영역에만 쓰므로 이전 Segment 를 읽는 스레드와 겹치지 않음
+    record Segment(ByteBuffer buffer, int capacity, int size,
+                   long maxVersion) {
+        static Segment append(Segment segment, int[] epochDays,
+                              long[] amounts, long[] versions,
+                              byte[] scales) {
+            int size = segment == null ? 0 : segment.size;
+            int required = size + epochDays.length;
+            
+            Segment target = segment;
+            if (segment == null || segment.capacity < required) {
+                int capacity = Math.max(INITIAL_CAPACITY,
+                                        Integer.highestOneBit(required) << 1);
+                target = new Segment(
+                        ByteBuffer.allocateDirect(capacity * ROW_BYTES),
+                        capacity, 0, 0);
+                for (int i = 0; i < size; i++) {
+                    target.put(i, segment.epochDay(i), segment.amount(i),
+                               segment.version(i), segment.scale(i));
+                }
+            }
+            
+            long maxVersion = segment == null ? 0 : segment.maxVersion;
+            for (int i = 0; i < epochDays.length; i++) {
+                target.put(size + i, epochDays[i], amounts[i], versions[i],
+                           scales[i]);
+                maxVersion = Math.max(maxVersion, versions[i]);
+            }
+            return new Segment(target.buffer, target.capacity, required,
+                               maxVersion);
+        }
+        
+        int epochDay(int row) {
+            return buffer.getInt(row * Integer.BYTES);
+        }
+        
+        long amount(int row) {
+            return buffer.getLong(capacity * Integer.BYTES + row * Long.BYTES);
+        }
+        
+        long version(int row) {
+            return buffer.getLong(capacity * (Integer.BYTES + Long.BYTES) +
+                                          row * Long.BYTES);
+        }
+        
+        int scale(int row) {
+            return buffer.get(capacity * (Integer.BYTES + Long.BYTES * 2) +
+                                      row);
+        }
+        
+        private void put(int row, int epochDay, long amount, long version,
+                         byte scale) {
+            buffer.putInt(row * Integer.BYTES, epochDay);
+            buffer.putLong(capacity * Integer.BYTES + row * Long.BYTES, amount);
+            buffer.putLong(capacity * (Integer.BYTES + Long.BYTES) +
+                                   row * Long.BYTES, version);
+            buffer.put(capacity * (Integer.BYTES + Long.BYTES * 2) + row,
+                       scale);
+        }
+    }
+}
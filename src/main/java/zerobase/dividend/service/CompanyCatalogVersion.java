@@ -0,0 +1,32 @@
+package zerobase.dividend.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 이 노드의 자동완성 색인이 바뀔 때마다 증가하는 버전 (HTTP ETag 로 사용)
+// 색인(Trie)은 노드마다 메모리에 따로 있고 다른 노드의 추가/삭제를 반영하지 않으므로
+// ETag 도 노드 단위, 다른 노드의 ETag 와는 기동 시각 때문에 항상 다름
+// (응답은 공유 캐시에 두지 않음, 회사 목록은 DB 상태로 만든 ETag 사용)
+@Component
+public class CompanyCatalogVersion {
+    // 재시작하면 0 부터 다시 세므로 기동 시각을 붙여서 이전 ETag 와 겹치지 않게 함
+    private final String epoch =
+            Long.toString(System.currentTimeMillis(), 36);
+    
+    // 회사 추가/삭제 (자동완성 색인)
+    private final AtomicLong companies = new AtomicLong();
+    
+    public void companiesChanged() {
+        companies.incrementAndGet();
+    }
+    
+    public long getCompanies() {
+        return companies.get();
+    }
+    
+    // 응답을 만든 버전과 ETag 가 어긋나지 않도록 조회 전에 읽은 버전으로 생성
+    public String autocompleteETag(long companies) {
+        return "\"" + epoch + "-" + companies + "\"";
+    }
+}
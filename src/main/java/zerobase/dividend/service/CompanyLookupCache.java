@@ -0,0 +1,211 @@
+package zerobase.dividend.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import zerobase.dividend.entity.CompanyEntity;
+import zerobase.dividend.model.Company;
+import zerobase.dividend.repository.CompanyRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CompanyLookupCache implements MeterBinder {
+    // IN 절 하나에 넣을 ticker 수
+    private static final int FETCH_CHUNK = 1000;
+    
+    private final CompanyRepository companyRepository;
+    
+    private final Map<String, CompanyEntity> byName =
+            new ConcurrentHashMap<>();
+    private final Map<String, CompanyEntity> byTicker =
+            new ConcurrentHashMap<>();
+    private final Map<Long, CompanyEntity> byId = new ConcurrentHashMap<>();
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    
+    // 마지막으로 적재할 때의 회사 수와 최대 id
+    private volatile Stamp loadedStamp;
+    
+    // 회사 테이블은 자주 바뀌지 않으므로 기동 시 한 번에 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void warmUp() {
+        // 적재 중에 바뀐 내용은 다음 확인에서 잡히도록 먼저 읽어 둠
+        Stamp stamp = currentStamp();
+        List<CompanyEntity> companies = companyRepository.findAll();
+        companies.forEach(this::put);
+        
+        // DB 에 없는 회사 (다른 노드에서 삭제) 는 제거
+        Set<Long> ids = companies.stream()
+                .map(CompanyEntity::getId)
+                .collect(Collectors.toSet());
+        byName.values().removeIf(e -> !ids.contains(e.getId()));
+        byTicker.values().removeIf(e -> !ids.contains(e.getId()));
+        byId.keySet().retainAll(ids);
+        
+        loadedStamp = stamp;
+        log.info("Company lookup cache warmed up. Size: {}", byTicker.size());
+    }
+    
+    // 삭제 이벤트는 같은 노드에서만 받으므로, 회사 수나 최대 id 가 바뀌면 다시 적재
+    // (회사는 추가/삭제만 되므로 둘 다 같으면 다른 노드의 변경도 없음)
+    @Scheduled(fixedDelayString = "${company.lookup.check-interval}",
+               initialDelayString = "${company.lookup.check-interval}")
+    public void checkForChanges() {
+        if (!currentStamp().equals(loadedStamp)) {
+            log.info("Company table changed, reloading lookup cache");
+            warmUp();
+        }
+    }
+    
+    public Optional<CompanyEntity> findByName(String name) {
+        CompanyEntity cached = byName.get(name);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        
+        misses.increment();
+        Optional<CompanyEntity> found = companyRepository.findByName(name);
+        found.ifPresent(this::put);
+        return found;
+    }
+    
+    public Optional<CompanyEntity> findByTicker(String ticker) {
+        CompanyEntity cached = byTicker.get(ticker);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        
+        misses.increment();
+        Optional<CompanyEntity> found = companyRepository.findByTicker(ticker);
+        found.ifPresent(this::put);
+        return found;
+    }
+    
+    // 캐시에 없는 ticker 는 IN 절로 묶어서 한 번에 조회, 없는 ticker 는 결과에서 빠짐
+    public Map<String, CompanyEntity> findAllByTickers(
+            Collection<String> tickers) {
+        Map<String, CompanyEntity> found = new HashMap<>();
+        List<String> missed = new ArrayList<>();
+        for (String ticker : tickers) {
+            CompanyEntity cached = byTicker.get(ticker);
+            if (cached != null) {
+                found.put(ticker, cached);
+            } else {
+                missed.add(ticker);
+            }
+        }
+        hits.add(found.size());
+        misses.add(missed.size());
+        
+        for (int i = 0; i < missed.size(); i += FETCH_CHUNK) {
+            for (CompanyEntity companyEntity : companyRepository
+                    .findAllByTickerIn(missed.subList(
+                            i, Math.min(i + FETCH_CHUNK, missed.size())))) {
+                put(companyEntity);
+                found.put(companyEntity.getTicker(), companyEntity);
+            }
+        }
+        return found;
+    }
+    
+    public Optional<CompanyEntity> findById(Long id) {
+        CompanyEntity cached = byId.get(id);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        
+        misses.increment();
+        Optional<CompanyEntity> found = companyRepository.findById(id);
+        found.ifPresent(this::put);
+        return found;
+    }
+    
+    public boolean existsByTicker(String ticker) {
+        return findByTicker(ticker).isPresent();
+    }
+    
+    public void put(CompanyEntity companyEntity) {
+        byName.put(companyEntity.getName(), companyEntity);
+        byTicker.put(companyEntity.getTicker(), companyEntity);
+        byId.put(companyEntity.getId(), companyEntity);
+    }
+    
+    public void evict(Company company) {
+        byName.remove(company.getName());
+        CompanyEntity removed = byTicker.remove(company.getTicker());
+        if (removed != null) {
+            byId.remove(removed.getId());
+        }
+    }
+    
+    public void clear() {
+        byName.clear();
+        byTicker.clear();
+        byId.clear();
+    }
+    
+    public Stats getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        double hitRatio = total == 0 ? 0 : (double) hitCount / total;
+        
+        return new Stats(byTicker.size(), hitCount, missCount, hitRatio);
+    }
+    
+    // 프로세스 내 조회 캐시 계층의 적중/미스 지표
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("company.lookup.gets", hits, LongAdder::sum)
+                .tag("tier", "local")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("company.lookup.gets", misses, LongAdder::sum)
+                .tag("tier", "local")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("company.lookup.size", byTicker, Map::size)
+                .tag("tier", "local")
+                .register(registry);
+    }
+    
+    private Stamp currentStamp() {
+        CompanyRepository.CatalogStamp stamp =
+                companyRepository.findCatalogStamp();
+        if (stamp == null) {
+            return new Stamp(0L, 0L);
+        }
+        return new Stamp(stamp.getCompanies() == null ? 0L :
+                                 stamp.getCompanies(),
+                         stamp.getMaxId() == null ? 0L : stamp.getMaxId());
+    }
+    
+    private record Stamp(long companies, long maxId) {
+    }
+    
+    public record Stats(int size, long hits, long misses, double hitRatio) {
+    }
+}
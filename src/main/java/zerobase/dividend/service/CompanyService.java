@@ -1,21 +1,31 @@
 package zerobase.dividend.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.AllArgsConstructor;
 import org.apache.commons.collections4.Trie;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 import zerobase.dividend.entity.CompanyEntity;
-import zerobase.dividend.entity.DividendEntity;
+import zerobase.dividend.event.CompanyDeletedEvent;
 import zerobase.dividend.exception.CompanyException;
 import zerobase.dividend.model.Company;
+import zerobase.dividend.model.CompanyListing;
 import zerobase.dividend.model.ScrapedResult;
 import zerobase.dividend.repository.CompanyRepository;
+import zerobase.dividend.repository.DividendMonthlyRepository;
 import zerobase.dividend.repository.DividendRepository;
+import zerobase.dividend.repository.ScrapRunItemRepository;
+import zerobase.dividend.repository.ScrapTaskRepository;
 import zerobase.dividend.scraper.Scraper;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,35 +38,104 @@ public class CompanyService {
     
     private final CompanyRepository companyRepository;
     private final DividendRepository dividendRepository;
+    private final DividendMonthlyRepository dividendMonthlyRepository;
+    private final ScrapTaskRepository scrapTaskRepository;
+    private final ScrapRunItemRepository scrapRunItemRepository;
+    private final CompanyLookupCache companyLookupCache;
+    private final DividendService dividendService;
+    private final ScrapTaskService scrapTaskService;
+    private final CompanyCatalogVersion companyCatalogVersion;
+    
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
     
     public void addAutocompleteKeyword(String keyword) {
         trie.put(keyword, null);
+        companyCatalogVersion.companiesChanged();
     }
     
     public List<String> autocomplate(String keyword) {
-        return (List<String>) trie.prefixMap(keyword).keySet().stream()
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<String> result = (List<String>) trie.prefixMap(keyword).keySet()
+                .stream()
                 .collect(Collectors.toList());
+        
+        sample.stop(meterRegistry.timer("autocomplete.latency"));
+        meterRegistry.summary("autocomplete.result.size").record(result.size());
+        return result;
     }
     
     public void deleteAutocompleteKeyword(String keyword) {
         trie.remove(keyword);
+        companyCatalogVersion.companiesChanged();
     }
     
+    @Transactional
     public String deleteCompany(String ticker) {
-        CompanyEntity companyEntity = companyRepository.findByTicker(ticker)
+        CompanyEntity companyEntity = companyLookupCache.findByTicker(
+                        Company.normalizeTicker(ticker))
                 .orElseThrow(CompanyException.NoCompanyException::new);
         
-        dividendRepository.deleteAllByCompanyId(companyEntity.getId());
-        companyRepository.delete(companyEntity);
-        deleteAutocompleteKeyword(companyEntity.getName());
+        deleteCompanyEntities(List.of(companyEntity));
         
         return companyEntity.getName();
     }
     
-    public Page<CompanyEntity> getAllCompany(Pageable pageable) {
-        return companyRepository.findAll(pageable);
+    @Transactional
+    public List<String> deleteCompanies(Collection<String> tickers) {
+        List<CompanyEntity> companyEntities =
+                companyRepository.findAllByTickerIn(
+                        tickers.stream()
+                                .map(Company::normalizeTicker)
+                                .toList());
+        if (companyEntities.isEmpty()) {
+            throw new CompanyException.NoCompanyException(
+                    String.valueOf(tickers));
+        }
+        
+        deleteCompanyEntities(companyEntities);
+        
+        return companyEntities.stream()
+                .map(CompanyEntity::getName)
+                .collect(Collectors.toList());
+    }
+    
+    private void deleteCompanyEntities(List<CompanyEntity> companyEntities) {
+        List<Long> ids = companyEntities.stream()
+                .map(CompanyEntity::getId)
+                .collect(Collectors.toList());
+        
+        // 테이블마다 DELETE 한 번, 캐시/자동완성 정리는 커밋 이후
+        dividendRepository.deleteAllByCompanyIdIn(ids);
+        dividendMonthlyRepository.deleteAllByCompanyIdIn(ids);
+        scrapTaskRepository.deleteAllByCompanyIdIn(ids);
+        scrapRunItemRepository.deleteAllByCompanyIdIn(ids);
+        companyRepository.deleteAllByIdIn(ids);
+        
+        eventPublisher.publishEvent(new CompanyDeletedEvent(
+                ids,
+                companyEntities.stream()
+                        .map(e -> new Company(e.getTicker(), e.getName()))
+                        .collect(Collectors.toList())));
     }
     
+    @Transactional(readOnly = true)
+    public Page<CompanyListing> getAllCompany(Pageable pageable) {
+        return companyRepository.findAll(pageable)
+                .map(e -> new CompanyListing(
+                        e.getId(), e.getTicker(), e.getName()));
+    }
+    
+    // 회사는 추가/삭제만 되므로 회사 수나 최대 id 가 바뀌면 목록이 바뀐 것
+    // (배당금 저장은 목록에 보이지 않으므로 ETag 에 넣지 않음)
+    @Transactional(readOnly = true)
+    public String getListingETag() {
+        CompanyRepository.CatalogStamp stamp =
+                companyRepository.findCatalogStamp();
+        return "\"" + stamp.getCompanies() + "-" + stamp.getMaxId() + "\"";
+    }
+    
+    @Transactional(readOnly = true)
     public List<String> getCompanyNamesByKeyword(String keyword) {
         Pageable limit = PageRequest.of(0, 10);
         Page<CompanyEntity> companyEntities =
@@ -68,8 +147,9 @@ public class CompanyService {
                 .collect(Collectors.toList());
     }
     
-    public Company save(String ticker) {
-        boolean exists = companyRepository.existsByTicker(ticker);
+    public Company save(String requestTicker) {
+        String ticker = Company.normalizeTicker(requestTicker);
+        boolean exists = companyLookupCache.existsByTicker(ticker);
         if (exists) {
             throw new CompanyException.AlreadyExistTickerException(ticker);
         }
@@ -78,23 +158,22 @@ public class CompanyService {
     }
     
     private Company storeCompanyAndDividend(String ticker) {
-        Company company = yahooFinanceScraper.scrapCompanyByTicker(ticker);
-        if (ObjectUtils.isEmpty(company)) {
+        ScrapedResult scrapedResult =
+                yahooFinanceScraper.scrapCompanyWithDividends(ticker);
+        if (ObjectUtils.isEmpty(scrapedResult) ||
+                ObjectUtils.isEmpty(scrapedResult.getCompany())) {
             throw new CompanyException.FailedScrapTickerException(ticker);
         }
         
-        ScrapedResult scrapedResult = yahooFinanceScraper.scrap(company);
+        Company company = scrapedResult.getCompany();
         
         CompanyEntity saved = companyRepository.save(
                 new CompanyEntity(company));
+        companyLookupCache.put(saved);
         
-        List<DividendEntity> dividendEntities =
-                scrapedResult.getDividendEntities()
-                        .stream()
-                        .map(e -> new DividendEntity(saved.getId(), e))
-                        .collect(Collectors.toList());
-        
-        dividendRepository.saveAll(dividendEntities);
+        dividendService.saveNewDividends(
+                saved, scrapedResult.getDividendEntities());
+        scrapTaskService.reschedule(saved.getId(), LocalDateTime.now());
         return company;
     }
 }
\ No newline at end of file
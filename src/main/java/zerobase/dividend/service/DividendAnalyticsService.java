@@ -0,0 +1,204 @@
+package zerobase.dividend.service;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import zerobase.dividend.entity.CompanyEntity;
+import zerobase.dividend.entity.DividendEntity;
+import zerobase.dividend.entity.DividendMonthlyEntity;
+import zerobase.dividend.event.DividendsInsertedEvent;
+import zerobase.dividend.exception.CompanyException;
+import zerobase.dividend.model.Company;
+import zerobase.dividend.model.DividendAnalytics;
+import zerobase.dividend.repository.DividendMonthlyRepository;
+import zerobase.dividend.repository.DividendRepository;
+import zerobase.dividend.type.CacheKey;
+import zerobase.dividend.type.Cadence;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@AllArgsConstructor
+@Slf4j
+public class DividendAnalyticsService {
+    private final CompanyLookupCache companyLookupCache;
+    private final DividendRepository dividendRepository;
+    private final DividendMonthlyRepository dividendMonthlyRepository;
+    private final CacheManager redisCacheManager;
+    
+    // 배당금 저장과 같은 트랜잭션에서 월별 합계를 누적 (원본 행을 다시 읽지 않음)
+    @EventListener
+    public void handleDividendsInserted(DividendsInsertedEvent event) {
+        accumulate(event.company().getId(), event.dividends());
+    }
+    
+    @TransactionalEventListener
+    public void evictAnalytics(DividendsInsertedEvent event) {
+        Cache cache = redisCacheManager.getCache(CacheKey.KEY_ANALYTICS);
+        if (cache != null) {
+            cache.evict(event.company().getName());
+        }
+    }
+    
+    // 집계 테이블이 비어 있는데 배당금이 있으면 원본에서 한 번 다시 만듦
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIfEmpty() {
+        if (dividendMonthlyRepository.count() > 0 ||
+                dividendRepository.count() == 0) {
+            return;
+        }
+        
+        Map<Long, List<DividendEntity>> byCompany =
+                dividendRepository.findAll().stream()
+                        .collect(Collectors.groupingBy(
+                                DividendEntity::getCompanyId));
+        byCompany.forEach(this::accumulate);
+        log.info("Dividend monthly aggregates rebuilt. Companies: {}",
+                 byCompany.size());
+    }
+    
+    // 이벤트 없이 적재된 배당금(대량 가져오기)은 회사 단위로 월별 합계를 다시 만듦
+    @Transactional
+    public void rebuild(Collection<Long> companyIds) {
+        dividendMonthlyRepository.deleteAllByCompanyIdIn(companyIds);
+        dividendRepository.findAllByCompanyIdIn(companyIds).stream()
+                .collect(Collectors.groupingBy(DividendEntity::getCompanyId))
+                .forEach(this::accumulate);
+    }
+    
+    @Cacheable(key = "#companyName", value = CacheKey.KEY_ANALYTICS)
+    @Transactional(readOnly = true)
+    public DividendAnalytics getAnalyticsByCompanyName(String companyName) {
+        CompanyEntity company = companyLookupCache.findByName(companyName)
+                .orElseThrow(CompanyException.NoCompanyException::new);
+        
+        return summarize(
+                company,
+                dividendMonthlyRepository.findAllByCompanyIdOrderByPayMonthAsc(
+                        company.getId()),
+                YearMonth.now());
+    }
+    
+    // 여러 회사의 월별 합계를 한 번에 조회
+    public Map<Long, List<DividendMonthlyEntity>> getMonthlyByCompanyIds(
+            Collection<Long> companyIds) {
+        return dividendMonthlyRepository.findAllByCompanyIdIn(companyIds)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        DividendMonthlyEntity::getCompanyId));
+    }
+    
+    private void accumulate(Long companyId, List<DividendEntity> dividends) {
+        Map<Integer, List<BigDecimal>> amounts = new HashMap<>();
+        for (DividendEntity dividend : dividends) {
+            BigDecimal amount = parseAmount(dividend.getDividend());
+            if (amount != null) {
+                amounts.computeIfAbsent(toPayMonth(dividend.getDate()),
+                                        k -> new ArrayList<>())
+                        .add(amount);
+            }
+        }
+        if (amounts.isEmpty()) {
+            return;
+        }
+        
+        Map<Integer, DividendMonthlyEntity> months =
+                dividendMonthlyRepository.findAllByCompanyIdAndPayMonthIn(
+                                companyId, amounts.keySet())
+                        .stream()
+                        .collect(Collectors.toMap(
+                                DividendMonthlyEntity::getPayMonth,
+                                Function.identity()));
+        
+        amounts.forEach((payMonth, values) -> {
+            DividendMonthlyEntity month = months.computeIfAbsent(
+                    payMonth, k -> new DividendMonthlyEntity(companyId, k));
+            values.forEach(month::add);
+        });
+        dividendMonthlyRepository.saveAll(months.values());
+    }
+    
+    static DividendAnalytics summarize(CompanyEntity company,
+                                       List<DividendMonthlyEntity> months,
+                                       YearMonth now) {
+        int ttmFrom = toPayMonth(now.minusMonths(11));
+        int ttmTo = toPayMonth(now);
+        
+        BigDecimal ttm = BigDecimal.ZERO;
+        int ttmPayments = 0;
+        TreeMap<Integer, BigDecimal> annualTotals = new TreeMap<>();
+        
+        for (DividendMonthlyEntity month : months) {
+            annualTotals.merge(month.getYear(), month.getTotal(),
+                               BigDecimal::add);
+            if (month.getPayMonth() >= ttmFrom &&
+                    month.getPayMonth() <= ttmTo) {
+                ttm = ttm.add(month.getTotal());
+                ttmPayments += month.getCount();
+            }
+        }
+        
+        return new DividendAnalytics(
+                new Company(company.getTicker(), company.getName()),
+                ttm, ttmPayments, Cadence.ofPaymentsPerYear(ttmPayments),
+                annualTotals, cagr(annualTotals, now.getYear()));
+    }
+    
+    // 첫 해와 올해는 일부 기간만 포함될 수 있어서 그 사이의 연도끼리만 비교
+    static Double cagr(NavigableMap<Integer, BigDecimal> annualTotals,
+                       int currentYear) {
+        if (annualTotals.isEmpty() || annualTotals.firstKey() >= currentYear) {
+            return null;
+        }
+        
+        NavigableMap<Integer, BigDecimal> complete = annualTotals.subMap(
+                annualTotals.firstKey(), false, currentYear, false);
+        if (complete.size() < 2) {
+            return null;
+        }
+        
+        Map.Entry<Integer, BigDecimal> first = complete.firstEntry();
+        Map.Entry<Integer, BigDecimal> last = complete.lastEntry();
+        if (first.getValue().signum() <= 0) {
+            return null;
+        }
+        
+        double growth = last.getValue()
+                .divide(first.getValue(), 10, RoundingMode.HALF_UP)
+                .doubleValue();
+        double cagr = Math.pow(growth,
+                               1.0 / (last.getKey() - first.getKey())) - 1;
+        return Math.round(cagr * 10000) / 10000.0;
+    }
+    
+    static int toPayMonth(LocalDateTime date) {
+        return date.getYear() * 100 + date.getMonthValue();
+    }
+    
+    static int toPayMonth(YearMonth yearMonth) {
+        return yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+    }
+    
+    private static BigDecimal parseAmount(String dividend) {
+        try {
+            return new BigDecimal(dividend.trim());
+        } catch (NumberFormatException | NullPointerException e) {
+            log.warn("Skip unparsable dividend amount -> {}", dividend);
+            return null;
+        }
+    }
+}
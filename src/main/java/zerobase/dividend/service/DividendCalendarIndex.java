@@ -0,0 +1,197 @@
+package zerobase.dividend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import zerobase.dividend.entity.CompanyEntity;
+import zerobase.dividend.entity.DividendEntity;
+import zerobase.dividend.event.CompanyDeletedEvent;
+import zerobase.dividend.event.DividendsInsertedEvent;
+import zerobase.dividend.model.DividendEvent;
+import zerobase.dividend.repository.DividendRepository;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// 전체 회사의 배당금을 날짜순으로 정렬해 둔 메모리 인덱스 (기간 조회용)
+// 로컬 커밋 이벤트로 바로 갱신하고, 다른 노드의 변경은 id 워터마크 이후 행을 주기적으로
+// 읽어 추가, 삭제는 주기적인 전체 재구성으로 반영
+@Component
+@Slf4j
+public class DividendCalendarIndex {
+    private final DividendRepository dividendRepository;
+    private final CompanyLookupCache companyLookupCache;
+    private final int batchSize;
+    
+    private volatile Snapshot snapshot = new Snapshot();
+    
+    // 재구성 중에 들어온 로컬 변경도 새 스냅샷에 반영
+    private volatile Snapshot building;
+    
+    // 인덱스에 읽어 들인 가장 큰 배당금 id
+    private volatile long watermark;
+    
+    public DividendCalendarIndex(
+            DividendRepository dividendRepository,
+            CompanyLookupCache companyLookupCache,
+            @Value("${finance.calendar.batch-size}") int batchSize) {
+        this.dividendRepository = dividendRepository;
+        this.companyLookupCache = companyLookupCache;
+        this.batchSize = batchSize;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${finance.calendar.rebuild-interval}",
+               initialDelayString = "${finance.calendar.rebuild-interval}")
+    public synchronized void build() {
+        Snapshot next = new Snapshot();
+        building = next;
+        try {
+            long last = load(next, 0L);
+            snapshot = next;
+            watermark = last;
+        } finally {
+            building = null;
+        }
+        log.info("Dividend calendar index built. Size: {}", next.size());
+    }
+    
+    // 워터마크 이후에 저장된 배당금 (다른 노드의 스크래핑/업로드 포함) 추가
+    @Scheduled(fixedDelayString = "${finance.calendar.sync-interval}",
+               initialDelayString = "${finance.calendar.sync-interval}")
+    public synchronized void sync() {
+        long last = load(snapshot, watermark);
+        if (last > watermark) {
+            log.debug("Dividend calendar index synced up to id {}", last);
+            watermark = last;
+        }
+    }
+    
+    @TransactionalEventListener
+    public void handleDividendsInserted(DividendsInsertedEvent event) {
+        event.dividends().forEach(this::add);
+    }
+    
+    @TransactionalEventListener
+    public void handleCompanyDeleted(CompanyDeletedEvent event) {
+        for (Long companyId : event.companyIds()) {
+            snapshot.remove(companyId);
+            Snapshot next = building;
+            if (next != null) {
+                next.remove(companyId);
+            }
+        }
+    }
+    
+    // from ~ to (양 끝 포함) 사이의 배당금을 날짜순으로 최대 limit 개
+    public List<DividendEvent> findBetween(LocalDate from, LocalDate to,
+                                           int limit) {
+        if (from.isAfter(to)) {
+            return List.of();
+        }
+        
+        List<DividendEvent> result = new ArrayList<>();
+        for (Entry entry : snapshot.byDate.subMap(new Key(from, Long.MIN_VALUE), true,
+                                         new Key(to, Long.MAX_VALUE), true)
+                .values()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            
+            Optional<CompanyEntity> company =
+                    companyLookupCache.findById(entry.companyId());
+            company.ifPresent(e -> result.add(new DividendEvent(
+                    entry.dividendId(), e.getTicker(), e.getName(),
+                    entry.date().atStartOfDay(), entry.dividend())));
+        }
+        return result;
+    }
+    
+    public void clear() {
+        snapshot = new Snapshot();
+        watermark = 0L;
+    }
+    
+    public int size() {
+        return snapshot.size();
+    }
+    
+    public long getWatermark() {
+        return watermark;
+    }
+    
+    public void add(DividendEntity dividend) {
+        snapshot.add(dividend);
+        Snapshot next = building;
+        if (next != null) {
+            next.add(dividend);
+        }
+    }
+    
+    // id 순으로 batchSize 개씩 읽어 target 에 추가하고 마지막 id 반환
+    private long load(Snapshot target, long afterId) {
+        long last = afterId;
+        List<DividendEntity> batch;
+        do {
+            batch = dividendRepository.findAllByIdGreaterThanOrderByIdAsc(
+                    last, PageRequest.of(0, batchSize));
+            for (DividendEntity dividend : batch) {
+                target.add(dividend);
+                last = dividend.getId();
+            }
+        } while (batch.size() == batchSize);
+        return last;
+    }
+    
+    private static class Snapshot {
+        private final ConcurrentSkipListMap<Key, Entry> byDate =
+                new ConcurrentSkipListMap<>();
+        
+        // 회사 삭제 시 해당 회사의 항목만 지우기 위한 역인덱스
+        private final Map<Long, Set<Key>> byCompany =
+                new ConcurrentHashMap<>();
+        
+        void add(DividendEntity dividend) {
+            Key key = new Key(dividend.getDate().toLocalDate(),
+                              dividend.getId());
+            byDate.put(key, new Entry(dividend.getId(),
+                                      dividend.getCompanyId(), key.date(),
+                                      dividend.getDividend()));
+            byCompany.computeIfAbsent(dividend.getCompanyId(),
+                                      k -> ConcurrentHashMap.newKeySet())
+                    .add(key);
+        }
+        
+        void remove(Long companyId) {
+            Set<Key> keys = byCompany.remove(companyId);
+            if (keys != null) {
+                keys.forEach(byDate::remove);
+            }
+        }
+        
+        int size() {
+            return byDate.size();
+        }
+    }
+    
+    private record Key(LocalDate date, long dividendId)
+            implements Comparable<Key> {
+        @Override
+        public int compareTo(Key o) {
+            int result = date.compareTo(o.date);
+            return result != 0 ? result :
+                    Long.compare(dividendId, o.dividendId);
+        }
+    }
+    
+    private record Entry(long dividendId, long companyId, LocalDate date,
+                         String dividend) {
+    }
+}
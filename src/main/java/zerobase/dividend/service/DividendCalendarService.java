@@ -0,0 +1,36 @@
+package zerobase.dividend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import zerobase.dividend.model.DividendEvent;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+public class DividendCalendarService {
+    private final DividendCalendarIndex dividendCalendarIndex;
+    private final int defaultDays;
+    private final int maxResults;
+    
+    public DividendCalendarService(
+            DividendCalendarIndex dividendCalendarIndex,
+            @Value("${finance.calendar.default-days}") int defaultDays,
+            @Value("${finance.calendar.max-results}") int maxResults) {
+        this.dividendCalendarIndex = dividendCalendarIndex;
+        this.defaultDays = defaultDays;
+        this.maxResults = maxResults;
+    }
+    
+    // 기간을 생략하면 오늘 기준 앞뒤 defaultDays 일
+    public List<DividendEvent> getCalendar(LocalDate from, LocalDate to,
+                                           Integer limit) {
+        LocalDate today = LocalDate.now();
+        LocalDate start = from != null ? from : today.minusDays(defaultDays);
+        LocalDate end = to != null ? to : today.plusDays(defaultDays);
+        int size = limit == null || limit <= 0 ? maxResults :
+                Math.min(limit, maxResults);
+        
+        return dividendCalendarIndex.findBetween(start, end, size);
+    }
+}
@@ -0,0 +1,468 @@
+package zerobase.dividend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import zerobase.dividend.exception.ImportException;
+import zerobase.dividend.model.DividendImportResult;
+import zerobase.dividend.type.CacheKey;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+// 벤더 파일(CSV)의 회사/배당금 이력을 스크래핑 없이 한 번에 적재
+// - 읽기: 호출 스레드가 chunk-size 줄씩 잘라서 넘김
+// - 파싱/검증: chunk 단위로 풀에서 병렬 처리
+// - 저장: chunk 순서대로 JDBC 배치 MERGE, chunk 마다 트랜잭션 하나
+// - 자동완성/캐시/읽기 모델은 마지막에 한 번만 갱신
+@Service
+@Slf4j
+public class DividendImportService {
+    static final List<String> COLUMNS =
+            List.of("ticker", "name", "date", "dividend");
+    
+    // IN 절 하나에 넣을 회사 수
+    private static final int FETCH_CHUNK = 1000;
+    
+    private static final String MERGE_COMPANY = """
+            MERGE INTO company c
+            USING (VALUES (CAST(? AS VARCHAR(255)), CAST(? AS VARCHAR(255))))
+                s (ticker, name)
+            ON c.ticker = s.ticker
+            WHEN NOT MATCHED THEN
+                INSERT (ticker, name, dividend_version)
+                VALUES (s.ticker, s.name, 0)
+            """;
+    
+    // (companyId, date) 유니크 제약에 걸리는 행은 건너뜀
+    private static final String MERGE_DIVIDEND = """
+            MERGE INTO dividend d
+            USING (VALUES (CAST(? AS BIGINT), CAST(? AS TIMESTAMP),
+                           CAST(? AS VARCHAR(255)), CAST(? AS BIGINT)))
+                s (company_id, date, dividend, version)
+            ON d.company_id = s.company_id AND d.date = s.date
+            WHEN NOT MATCHED THEN
+                INSERT (company_id, date, dividend, version)
+                VALUES (s.company_id, s.date, s.dividend, s.version)
+            """;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CompanyService companyService;
+    private final CompanyLookupCache companyLookupCache;
+    private final ScrapTaskService scrapTaskService;
+    private final DividendAnalyticsService dividendAnalyticsService;
+    private final DividendCalendarIndex dividendCalendarIndex;
+    private final ObjectProvider<ColumnarDividendStore> columnarDividendStore;
+    private final CacheManager redisCacheManager;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final int maxErrors;
+    
+    public DividendImportService(
+            JdbcTemplate jdbcTemplate,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            CompanyService companyService,
+            CompanyLookupCache companyLookupCache,
+            ScrapTaskService scrapTaskService,
+            DividendAnalyticsService dividendAnalyticsService,
+            DividendCalendarIndex dividendCalendarIndex,
+            ObjectProvider<ColumnarDividendStore> columnarDividendStore,
+            CacheManager redisCacheManager,
+            @Value("${finance.import.parallelism}") int parallelism,
+            @Value("${finance.import.chunk-size}") int chunkSize,
+            @Value("${finance.import.max-errors}") int maxErrors) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.companyService = companyService;
+        this.companyLookupCache = companyLookupCache;
+        this.scrapTaskService = scrapTaskService;
+        this.dividendAnalyticsService = dividendAnalyticsService;
+        this.dividendCalendarIndex = dividendCalendarIndex;
+        this.columnarDividendStore = columnarDividendStore;
+        this.redisCacheManager = redisCacheManager;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism :
+                                             Runtime.getRuntime()
+                                                     .availableProcessors());
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+    }
+    
+    // 첫 줄은 헤더 (ticker,name,date,dividend 순서 무관), date 는 yyyy-MM-dd
+    public DividendImportResult importCsv(InputStream in) throws IOException {
+        long start = System.nanoTime();
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16);
+        
+        String header = reader.readLine();
+        if (header == null) {
+            throw new ImportException.InvalidImportFileException("empty file");
+        }
+        int[] columns = columnIndexes(header);
+        
+        // 파싱은 앞서 나가되 메모리에 올라오는 chunk 수는 제한
+        int maxInFlight = pool.getParallelism() * 2;
+        Deque<ForkJoinTask<ParsedChunk>> inFlight = new ArrayDeque<>();
+        ImportState state = new ImportState();
+        
+        try {
+            List<String> lines = new ArrayList<>(chunkSize);
+            long lineNo = 1;
+            long firstLineNo = 2;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                lines.add(line);
+                if (lines.size() < chunkSize) {
+                    continue;
+                }
+                
+                List<String> chunk = lines;
+                long chunkStart = firstLineNo;
+                inFlight.add(pool.submit(
+                        () -> parse(columns, chunk, chunkStart, maxErrors)));
+                lines = new ArrayList<>(chunkSize);
+                firstLineNo = lineNo + 1;
+                
+                if (inFlight.size() >= maxInFlight) {
+                    write(inFlight.poll().join(), state);
+                }
+            }
+            if (!lines.isEmpty()) {
+                List<String> chunk = lines;
+                long chunkStart = firstLineNo;
+                inFlight.add(pool.submit(
+                        () -> parse(columns, chunk, chunkStart, maxErrors)));
+            }
+            while (!inFlight.isEmpty()) {
+                write(inFlight.poll().join(), state);
+            }
+        } finally {
+            // 중간에 실패해도(DB 오류, 연결 끊김) 이미 커밋된 chunk 는 남아 있으므로 갱신
+            inFlight.forEach(e -> e.cancel(true));
+            if (!state.touched.isEmpty() || !state.created.isEmpty()) {
+                refresh(state);
+            }
+        }
+        
+        DividendImportResult result = new DividendImportResult(
+                state.rows, state.invalid, state.created.size(),
+                state.inserted, state.duplicates,
+                (System.nanoTime() - start) / 1_000_000, state.errors);
+        log.info("Dividend import finished. Rows: {}, inserted: {}, " +
+                         "duplicates: {}, invalid: {}, companies created: " +
+                         "{}, elapsed: {} ms",
+                 result.getRows(), result.getDividendsInserted(),
+                 result.getDuplicates(), result.getInvalid(),
+                 result.getCompaniesCreated(), result.getElapsedMillis());
+        return result;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+    
+    static int[] columnIndexes(String header) {
+        List<String> names = split(header.startsWith("\uFEFF") ?
+                                           header.substring(1) : header)
+                .stream()
+                .map(e -> e.trim().toLowerCase())
+                .toList();
+        
+        int[] indexes = new int[COLUMNS.size()];
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            indexes[i] = names.indexOf(COLUMNS.get(i));
+            if (indexes[i] < 0) {
+                throw new ImportException.InvalidImportFileException(
+                        "missing column -> " + COLUMNS.get(i));
+            }
+        }
+        return indexes;
+    }
+    
+    // 잘못된 행은 건너뛰고 줄 번호와 사유만 남김
+    static ParsedChunk parse(int[] columns, List<String> lines,
+                             long firstLineNo, int maxErrors) {
+        List<Row> rows = new ArrayList<>(lines.size());
+        List<String> errors = new ArrayList<>();
+        int blank = 0;
+        int invalid = 0;
+        
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                blank++;
+                continue;
+            }
+            
+            try {
+                rows.add(parseRow(columns, split(line)));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                invalid++;
+                if (errors.size() < maxErrors) {
+                    errors.add((firstLineNo + i) + ": " + e.getMessage());
+                }
+            }
+        }
+        return new ParsedChunk(rows, lines.size() - blank, invalid, errors);
+    }
+    
+    private static Row parseRow(int[] columns, List<String> fields) {
+        for (int index : columns) {
+            if (index >= fields.size()) {
+                throw new IllegalArgumentException(
+                        "expected " + COLUMNS.size() + " columns");
+            }
+        }
+        
+        String ticker = fields.get(columns[0]).trim().toUpperCase();
+        String name = fields.get(columns[1]).trim();
+        if (ticker.isEmpty() || name.isEmpty()) {
+            throw new IllegalArgumentException("ticker or name is empty");
+        }
+        
+        LocalDateTime date =
+                LocalDate.parse(fields.get(columns[2]).trim()).atStartOfDay();
+        
+        BigDecimal dividend;
+        try {
+            dividend = new BigDecimal(fields.get(columns[3]).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    "invalid dividend -> " + fields.get(columns[3]));
+        }
+        if (dividend.signum() <= 0) {
+            throw new IllegalArgumentException(
+                    "dividend must be positive -> " + dividend);
+        }
+        
+        return new Row(ticker, name, date, dividend.toPlainString());
+    }
+    
+    // 큰따옴표로 감싼 필드 안의 쉼표와 "" 를 지원 (필드 안 줄바꿈은 미지원)
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() &&
+                        line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+    
+    private void write(ParsedChunk chunk, ImportState state) {
+        state.rows += chunk.lines();
+        state.invalid += chunk.invalid();
+        chunk.errors().stream()
+                .limit(maxErrors - state.errors.size())
+                .forEach(state.errors::add);
+        if (chunk.rows().isEmpty()) {
+            return;
+        }
+        
+        // 커밋된 chunk 의 결과만 state 에 반영 (롤백된 회사 id 를 갱신 대상에 넣지 않음)
+        WrittenChunk written = transactionTemplate.execute(
+                status -> writeRows(chunk.rows(), state.companyIds));
+        state.companyIds.putAll(written.companyIds());
+        state.names.putAll(written.names());
+        state.created.addAll(written.created());
+        state.touched.addAll(written.touched());
+        state.inserted += written.inserted();
+        state.duplicates += written.duplicates();
+    }
+    
+    private WrittenChunk writeRows(List<Row> rows,
+                                   Map<String, Long> knownIds) {
+        Map<String, Long> companyIds = new HashMap<>();
+        Map<Long, String> names = new HashMap<>();
+        Set<Long> createdIds = new LinkedHashSet<>();
+        long inserted = 0;
+        long duplicates = 0;
+        
+        // 1. 처음 보는 ticker 만 회사로 MERGE 후 id 조회
+        Map<String, String> unknown = new LinkedHashMap<>();
+        for (Row row : rows) {
+            if (!knownIds.containsKey(row.ticker())) {
+                unknown.putIfAbsent(row.ticker(), row.name());
+            }
+        }
+        if (!unknown.isEmpty()) {
+            List<String> tickers = new ArrayList<>(unknown.keySet());
+            int[] counts = jdbcTemplate.batchUpdate(
+                    MERGE_COMPANY,
+                    tickers.stream()
+                            .map(e -> new Object[]{e, unknown.get(e)})
+                            .toList());
+            
+            Set<String> created = new HashSet<>();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    created.add(tickers.get(i));
+                }
+            }
+            
+            for (List<String> part : partition(tickers)) {
+                namedParameterJdbcTemplate.query(
+                        "SELECT id, ticker, name FROM company " +
+                                "WHERE ticker IN (:tickers)",
+                        Map.of("tickers", part),
+                        rs -> {
+                            long id = rs.getLong("id");
+                            String ticker = rs.getString("ticker");
+                            companyIds.put(ticker, id);
+                            names.put(id, rs.getString("name"));
+                            if (created.contains(ticker)) {
+                                createdIds.add(id);
+                            }
+                        });
+            }
+        }
+        
+        // 2. 파일 안에서 중복된 (회사, 날짜) 는 먼저 나온 행만 사용
+        Map<Long, Map<LocalDateTime, String>> byCompany = new HashMap<>();
+        for (Row row : rows) {
+            Long companyId = knownIds.containsKey(row.ticker()) ?
+                    knownIds.get(row.ticker()) : companyIds.get(row.ticker());
+            if (byCompany.computeIfAbsent(companyId, k -> new HashMap<>())
+                    .putIfAbsent(row.date(), row.dividend()) != null) {
+                duplicates++;
+            }
+        }
+        
+        // 3. 증분 조회 커서가 이어지도록 chunk 당 회사별 version 을 한 번 올림
+        Map<Long, Long> versions = new HashMap<>();
+        for (List<Long> part : partition(new ArrayList<>(byCompany.keySet()))) {
+            Map<String, List<Long>> params = Map.of("ids", part);
+            namedParameterJdbcTemplate.update(
+                    "UPDATE company SET dividend_version = " +
+                            "dividend_version + 1 WHERE id IN (:ids)",
+                    params);
+            namedParameterJdbcTemplate.query(
+                    "SELECT id, dividend_version FROM company " +
+                            "WHERE id IN (:ids)",
+                    params,
+                    rs -> {
+                        versions.put(rs.getLong("id"),
+                                     rs.getLong("dividend_version"));
+                    });
+        }
+        
+        // 4. 배당금 배치 MERGE
+        List<Object[]> args = new ArrayList<>(rows.size());
+        byCompany.forEach((companyId, dividends) -> dividends.forEach(
+                (date, dividend) -> args.add(new Object[]{
+                        companyId, date, dividend,
+                        versions.get(companyId)})));
+        
+        int[] counts = jdbcTemplate.batchUpdate(MERGE_DIVIDEND, args);
+        for (int count : counts) {
+            if (count > 0) {
+                inserted++;
+            } else {
+                duplicates++;
+            }
+        }
+        return new WrittenChunk(companyIds, names, createdIds,
+                                byCompany.keySet(), inserted, duplicates);
+    }
+    
+    // 적재가 끝난 뒤 한 번만 갱신 (행마다 이벤트를 발행하지 않음)
+    private void refresh(ImportState state) {
+        companyLookupCache.warmUp();
+        state.names.values().forEach(companyService::addAutocompleteKeyword);
+        
+        // 새 회사는 이력으로 다음 스크래핑 시각을 정해서 다음 실행에 한꺼번에 몰리지 않게 함
+        LocalDateTime now = LocalDateTime.now();
+        state.created.forEach(id -> scrapTaskService.reschedule(id, now));
+        
+        for (List<Long> part : partition(new ArrayList<>(state.touched))) {
+            dividendAnalyticsService.rebuild(part);
+        }
+        dividendCalendarIndex.build();
+        columnarDividendStore.ifAvailable(ColumnarDividendStore::rebuild);
+        
+        for (String key : List.of(CacheKey.KEY_FINANCE,
+                                  CacheKey.KEY_ANALYTICS)) {
+            Cache cache = redisCacheManager.getCache(key);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+    
+    private static <T> List<List<T>> partition(List<T> values) {
+        List<List<T>> parts = new ArrayList<>();
+        for (int i = 0; i < values.size(); i += FETCH_CHUNK) {
+            parts.add(values.subList(
+                    i, Math.min(values.size(), i + FETCH_CHUNK)));
+        }
+        return parts;
+    }
+    
+    record Row(String ticker, String name, LocalDateTime date,
+               String dividend) {
+    }
+    
+    record ParsedChunk(List<Row> rows, int lines, int invalid,
+                       List<String> errors) {
+    }
+    
+    record WrittenChunk(Map<String, Long> companyIds, Map<Long, String> names,
+                        Set<Long> created, Set<Long> touched, long inserted,
+                        long duplicates) {
+    }
+    
+    // 저장은 호출 스레드에서만 하므로 동기화하지 않음
+    private static class ImportState {
+        private final Map<String, Long> companyIds = new HashMap<>();
+        private final Map<Long, String> names = new HashMap<>();
+        private final Set<Long> created = new LinkedHashSet<>();
+        private final Set<Long> touched = new LinkedHashSet<>();
+        private final List<String> errors = new ArrayList<>();
+        private long rows;
+        private long invalid;
+        private long inserted;
+        private long duplicates;
+    }
+}
@@ -0,0 +1,60 @@
+package zerobase.dividend.service;
+
+import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import zerobase.dividend.entity.CompanyEntity;
+import zerobase.dividend.entity.DividendEntity;
+import zerobase.dividend.event.DividendsInsertedEvent;
+import zerobase.dividend.model.Dividend;
+import zerobase.dividend.repository.CompanyRepository;
+import zerobase.dividend.repository.DividendRepository;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@AllArgsConstructor
+public class DividendService {
+    private final CompanyRepository companyRepository;
+    private final DividendRepository dividendRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    // 행마다 exists 쿼리를 날리지 않고, 저장된 날짜를 한 번에 조회해서 새 배당금만 저장
+    @Transactional
+    public List<DividendEntity> saveNewDividends(
+            CompanyEntity company, List<Dividend> dividends) {
+        // 회사 행을 먼저 잠가서 같은 회사의 동시 저장은 앞선 저장이 커밋한 날짜까지 보고 거름
+        Optional<CompanyEntity> locked =
+                companyRepository.findByIdForUpdate(company.getId());
+        if (locked.isEmpty()) {
+            return List.of();
+        }
+        
+        Set<LocalDateTime> dates = new HashSet<>(
+                dividendRepository.findAllDatesByCompanyId(company.getId()));
+        
+        List<Dividend> newDividends = dividends.stream()
+                .filter(e -> dates.add(e.getDate()))
+                .collect(Collectors.toList());
+        
+        if (newDividends.isEmpty()) {
+            return List.of();
+        }
+        
+        // 새 배당금이 있을 때만 version 을 올리고, 이번에 저장하는 배당금은 모두 같은 version
+        long version = locked.get().increaseDividendVersion();
+        List<DividendEntity> newEntities = newDividends.stream()
+                .map(e -> new DividendEntity(company.getId(), e, version))
+                .collect(Collectors.toList());
+        
+        List<DividendEntity> saved = dividendRepository.saveAll(newEntities);
+        eventPublisher.publishEvent(new DividendsInsertedEvent(company, saved));
+        return saved;
+    }
+}
@@ -0,0 +1,316 @@
+package zerobase.dividend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import zerobase.dividend.entity.CompanyEntity;
+import zerobase.dividend.entity.DividendEntity;
+import zerobase.dividend.event.DividendsInsertedEvent;
+import zerobase.dividend.model.Company;
+import zerobase.dividend.model.DividendEvent;
+import zerobase.dividend.repository.CompanyRepository;
+import zerobase.dividend.repository.DividendRepository;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class DividendStreamService {
+    private static final String EVENT_NAME = "dividend";
+    
+    private final CompanyLookupCache companyLookupCache;
+    private final CompanyRepository companyRepository;
+    private final DividendRepository dividendRepository;
+    private final long timeout;
+    private final int replayLimit;
+    private final int queueCapacity;
+    
+    // ticker 별 구독자, 필터 없이 구독하면 전체 구독자로 관리
+    private final Map<String, Set<Subscriber>> byTicker =
+            new ConcurrentHashMap<>();
+    private final Set<Subscriber> all = ConcurrentHashMap.newKeySet();
+    
+    // 구독자마다 큐를 두고 전송은 제한된 풀에서 구독자별로 순서대로 처리
+    // (느린 클라이언트는 자기 큐만 밀리고, 큐가 넘치면 연결을 끊어 Last-Event-ID 로 재연결하게 함)
+    private final ExecutorService senders;
+    
+    public DividendStreamService(
+            CompanyLookupCache companyLookupCache,
+            CompanyRepository companyRepository,
+            DividendRepository dividendRepository,
+            @Value("${finance.stream.timeout}") long timeout,
+            @Value("${finance.stream.replay-limit}") int replayLimit,
+            @Value("${finance.stream.send-threads}") int sendThreads,
+            @Value("${finance.stream.queue-capacity}") int queueCapacity) {
+        this.companyLookupCache = companyLookupCache;
+        this.companyRepository = companyRepository;
+        this.dividendRepository = dividendRepository;
+        this.timeout = timeout;
+        this.replayLimit = replayLimit;
+        this.queueCapacity = queueCapacity;
+        this.senders = Executors.newFixedThreadPool(
+                sendThreads,
+                Thread.ofPlatform().name("dividend-stream-", 0).daemon(true)
+                        .factory());
+    }
+    
+    public SseEmitter subscribe(Collection<String> tickers, Long lastEventId) {
+        Set<String> filter = tickers == null ? Set.of() : tickers.stream()
+                .map(Company::normalizeTicker)
+                .collect(Collectors.toSet());
+        
+        SseEmitter emitter = newEmitter();
+        Subscriber subscriber = new Subscriber(emitter, lastEventId != null);
+        Runnable remove = () -> unsubscribe(subscriber, filter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+        
+        // 먼저 등록하고 재전송해야 그 사이에 들어온 배당금을 놓치지 않음 (중복은 id 로 걸러냄)
+        if (filter.isEmpty()) {
+            all.add(subscriber);
+        } else {
+            filter.forEach(ticker -> byTicker.computeIfAbsent(
+                    ticker, k -> ConcurrentHashMap.newKeySet()).add(subscriber));
+        }
+        
+        // 재전송용 DB 조회는 요청 스레드가 아닌 전송 풀에서
+        if (lastEventId != null) {
+            senders.execute(() -> replay(subscriber, filter, lastEventId));
+        }
+        return emitter;
+    }
+    
+    @TransactionalEventListener
+    public void handleDividendsInserted(DividendsInsertedEvent event) {
+        Set<Subscriber> subscribers = byTicker.getOrDefault(
+                event.company().getTicker(), Set.of());
+        if (subscribers.isEmpty() && all.isEmpty()) {
+            return;
+        }
+        
+        // 큐에 넣기만 하므로 커밋 스레드(스케줄러)는 전송을 기다리지 않음
+        List<DividendEvent> events = event.dividends().stream()
+                .map(e -> toEvent(event.company(), e))
+                .toList();
+        subscribers.forEach(e -> e.offer(events));
+        all.forEach(e -> e.offer(events));
+    }
+    
+    // 프록시나 로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석 전송
+    @Scheduled(fixedRateString = "${finance.stream.heartbeat}")
+    public void heartbeat() {
+        subscribers().forEach(Subscriber::ping);
+    }
+    
+    public int getSubscriberCount() {
+        return subscribers().size();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+    
+    SseEmitter newEmitter() {
+        return new SseEmitter(timeout);
+    }
+    
+    private Set<Subscriber> subscribers() {
+        Set<Subscriber> subscribers = new HashSet<>(all);
+        byTicker.values().forEach(subscribers::addAll);
+        return subscribers;
+    }
+    
+    private void replay(Subscriber subscriber, Set<String> filter,
+                        Long lastEventId) {
+        List<DividendEvent> events;
+        try {
+            events = findMissedEvents(filter, lastEventId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to replay dividend stream from id {} : {}",
+                     lastEventId, e.getMessage());
+            subscriber.close(e);
+            return;
+        }
+        
+        subscriber.replayed(events);
+        log.info("Replayed dividend stream from id {}. Count: {}",
+                 lastEventId, events.size());
+    }
+    
+    private List<DividendEvent> findMissedEvents(Set<String> filter,
+                                                 Long lastEventId) {
+        PageRequest page = PageRequest.of(0, replayLimit);
+        List<DividendEntity> missed;
+        Map<Long, CompanyEntity> companies;
+        
+        if (filter.isEmpty()) {
+            missed = dividendRepository.findAllByIdGreaterThanOrderByIdAsc(
+                    lastEventId, page);
+            Set<Long> companyIds = missed.stream()
+                    .map(DividendEntity::getCompanyId)
+                    .collect(Collectors.toSet());
+            companies = companyRepository.findAllById(companyIds).stream()
+                    .collect(Collectors.toMap(CompanyEntity::getId,
+                                              Function.identity()));
+        } else {
+            companies = filter.stream()
+                    .map(companyLookupCache::findByTicker)
+                    .flatMap(Optional::stream)
+                    .collect(Collectors.toMap(CompanyEntity::getId,
+                                              Function.identity()));
+            if (companies.isEmpty()) {
+                return List.of();
+            }
+            missed = dividendRepository
+                    .findAllByIdGreaterThanAndCompanyIdInOrderByIdAsc(
+                            lastEventId, companies.keySet(), page);
+        }
+        
+        return missed.stream()
+                .filter(e -> companies.containsKey(e.getCompanyId()))
+                .map(e -> toEvent(companies.get(e.getCompanyId()), e))
+                .toList();
+    }
+    
+    private void unsubscribe(Subscriber subscriber, Set<String> filter) {
+        subscriber.closed = true;
+        all.remove(subscriber);
+        for (String ticker : filter) {
+            byTicker.computeIfPresent(ticker, (k, subscribers) -> {
+                subscribers.remove(subscriber);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+        }
+    }
+    
+    private static DividendEvent toEvent(CompanyEntity company,
+                                         DividendEntity dividend) {
+        return new DividendEvent(dividend.getId(), company.getTicker(),
+                                 company.getName(), dividend.getDate(),
+                                 dividend.getDividend());
+    }
+    
+    // 구독자 하나의 전송 큐, 한 번에 한 스레드만 drain 하므로 전송 순서가 유지됨
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<DividendEvent> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean pingPending = new AtomicBoolean();
+        
+        // 재전송이 끝날 때까지는 큐에 쌓기만 함
+        private volatile boolean replaying;
+        private volatile boolean closed;
+        
+        // 재전송과 겹친 배당금은 건너뜀 (drain 하는 스레드만 사용)
+        private long lastSentId;
+        
+        private Subscriber(SseEmitter emitter, boolean replaying) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.replaying = replaying;
+        }
+        
+        private void offer(List<DividendEvent> events) {
+            if (closed) {
+                return;
+            }
+            for (DividendEvent event : events) {
+                if (!queue.offer(event)) {
+                    log.warn("Dividend stream subscriber is too slow. " +
+                                     "Closing. Queued: {}", queue.size());
+                    close(null);
+                    return;
+                }
+            }
+            schedule();
+        }
+        
+        private void ping() {
+            pingPending.set(true);
+            schedule();
+        }
+        
+        private void replayed(List<DividendEvent> events) {
+            try {
+                for (DividendEvent event : events) {
+                    send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                close(e);
+                return;
+            }
+            replaying = false;
+            schedule();
+        }
+        
+        private void schedule() {
+            if (replaying || closed || !draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                senders.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+            }
+        }
+        
+        private void drain() {
+            try {
+                if (pingPending.getAndSet(false)) {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                }
+                DividendEvent event;
+                while (!closed && (event = queue.poll()) != null) {
+                    send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                close(e);
+            } finally {
+                draining.set(false);
+            }
+            
+            // drain 하는 사이에 들어온 배당금
+            if (!queue.isEmpty() || pingPending.get()) {
+                schedule();
+            }
+        }
+        
+        private void send(DividendEvent event) throws IOException {
+            if (event.getId() <= lastSentId) {
+                return;
+            }
+            emitter.send(SseEmitter.event()
+                                 .id(String.valueOf(event.getId()))
+                                 .name(EVENT_NAME)
+                                 .data(event));
+            lastSentId = event.getId();
+        }
+        
+        private void close(Throwable e) {
+            closed = true;
+            queue.clear();
+            if (e == null) {
+                emitter.complete();
+            } else {
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
@@ -1,44 +1,106 @@
 package zerobase.dividend.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import zerobase.dividend.entity.CompanyEntity;
 import zerobase.dividend.entity.DividendEntity;
 import zerobase.dividend.exception.CompanyException;
 import zerobase.dividend.model.Company;
 import zerobase.dividend.model.Dividend;
 import zerobase.dividend.model.ScrapedResult;
-import zerobase.dividend.repository.CompanyRepository;
 import zerobase.dividend.repository.DividendRepository;
 import zerobase.dividend.type.CacheKey;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
 public class FinanceService {
-    private final CompanyRepository companyRepository;
+    private final CompanyLookupCache companyLookupCache;
     private final DividendRepository dividendRepository;
+    private final MeterRegistry meterRegistry;
+    
+    // finance.read-model.columnar=true 일 때만 존재
+    private final ObjectProvider<ColumnarDividendStore> columnarStore;
     
     @Cacheable(key = "#companyName", value = CacheKey.KEY_FINANCE)
+    @Transactional(readOnly = true)
     public ScrapedResult getDividendByCompanyName(String companyName) {
+        return loadByCompanyName(companyName);
+    }
+    
+    // 캐시를 거치지 않는 조회 (리액티브 경로는 레디스 캐시를 직접 다룸)
+    // 캐시 미스일 때만 실행되므로 읽기 모델 / DB 계층에서의 로딩 시간으로 기록
+    @Transactional(readOnly = true)
+    public ScrapedResult loadByCompanyName(String companyName) {
         // 1. 회사명을 기준으로 회사 정보를 조회
-        CompanyEntity company = companyRepository.findByName(companyName)
+        CompanyEntity company = companyLookupCache.findByName(companyName)
                 .orElseThrow(CompanyException.NoCompanyException::new);
         
+        ColumnarDividendStore store = columnarStore.getIfAvailable();
+        if (store != null) {
+            // 다른 노드에서 저장된 배당금이 있으면 컬럼이 뒤처져 있으므로 DB 의 version 과 비교
+            // (캐시된 회사 정보의 dividendVersion 은 오래된 값이라 행의 최대값 사용)
+            long dividendVersion = dividendRepository.findMaxVersionByCompanyId(
+                    company.getId());
+            Optional<ScrapedResult> result = meterRegistry.timer(
+                            "finance.load", "tier", "columnar")
+                    .record(() -> store.getScrapedResult(
+                            company, dividendVersion));
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        
+        return meterRegistry.timer("finance.load", "tier", "db")
+                .record(() -> loadDividends(company, store));
+    }
+    
+    private ScrapedResult loadDividends(CompanyEntity company,
+                                        ColumnarDividendStore store) {
         // 2. 조회된 회사 ID 로 배당금 정보 조회
         List<DividendEntity> dividendEntities =
                 dividendRepository.findAllByCompanyId(
                         company.getId());
         
+        // 뒤처진 컬럼은 방금 읽은 이력으로 교체해서 다음 조회부터 다시 사용
+        if (store != null) {
+            store.replace(company.getId(), dividendEntities);
+        }
+        
         // 3. 결과 조합 후 반환
-        List<Dividend> dividends = dividendEntities.stream()
-                .map(e -> new Dividend(e.getDate(), e.getDividend()))
+        return toScrapedResult(company, dividendEntities);
+    }
+    
+    // 캐시된 전체 결과에서 since 이후에 저장된 배당금만 추림 (캐시가 있으면 DB 조회 없음)
+    public ScrapedResult getDividendDelta(ScrapedResult result, long since) {
+        List<Dividend> dividends = result.getDividendEntities().stream()
+                .filter(e -> e.getVersion() == null || e.getVersion() > since)
                 .collect(Collectors.toList());
         
+        return new ScrapedResult(result.getCompany(), dividends,
+                                 result.getVersion());
+    }
+    
+    static ScrapedResult toScrapedResult(
+            CompanyEntity company, List<DividendEntity> dividendEntities) {
+        long version = 0;
+        List<Dividend> dividends = new ArrayList<>(dividendEntities.size());
+        for (DividendEntity e : dividendEntities) {
+            dividends.add(new Dividend(e.getDate(), e.getDividend(),
+                                       e.getVersion()));
+            version = Math.max(version, e.getVersion());
+        }
+        
         return new ScrapedResult(
-                new Company(company.getTicker(), company.getName()), dividends);
+                new Company(company.getTicker(), company.getName()), dividends,
+                version);
     }
 }
@@ -1,35 +1,52 @@
 package zerobase.dividend.service;
 
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import zerobase.dividend.entity.MemberEntity;
 import zerobase.dividend.exception.MemberException;
 import zerobase.dividend.model.Auth;
 import zerobase.dividend.repository.MemberRepository;
+import zerobase.dividend.security.PasswordHasher;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
-@AllArgsConstructor
 @Service
 @Slf4j
 public class MemberService implements UserDetailsService {
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final MemberRepository memberRepository;
     
-    public MemberEntity authenticate(Auth.SignIn requestMember) {
+    // 해싱 전용 스레드는 BCrypt 만 실행하고, 해싱 후의 DB 저장은 이 스레드에서
+    private final Executor storeExecutor;
+    
+    public MemberService(
+            PasswordHasher passwordHasher, MemberRepository memberRepository,
+            @Qualifier("applicationTaskExecutor") Executor storeExecutor) {
+        this.passwordHasher = passwordHasher;
+        this.memberRepository = memberRepository;
+        this.storeExecutor = storeExecutor;
+    }
+    
+    // 회원 조회는 요청 스레드에서, 비밀번호 비교는 해싱 전용 스레드에서
+    public CompletableFuture<MemberEntity> authenticate(
+            Auth.SignIn requestMember) {
         MemberEntity memberEntity = memberRepository.findByUsername(
                         requestMember.getUsername())
                 .orElseThrow(MemberException.NoMemberException::new);
         
-        if (!passwordEncoder.matches(
-                requestMember.getPassword(), memberEntity.getPassword())) {
-            throw new MemberException.WrongPasswordException();
-        }
-        
-        return memberEntity;
+        return passwordHasher.matches(
+                        requestMember.getPassword(), memberEntity.getPassword())
+                .thenApply(matched -> {
+                    if (!matched) {
+                        throw new MemberException.WrongPasswordException();
+                    }
+                    return memberEntity;
+                });
     }
     
     @Override
@@ -40,16 +57,18 @@ public class MemberService implements UserDetailsService {
                         "couldn't find user -> " + username));
     }
     
-    public MemberEntity register(Auth.SignUp requestMember) {
+    public CompletableFuture<MemberEntity> register(Auth.SignUp requestMember) {
         boolean exists = memberRepository.existsByUsername(
                 requestMember.getUsername());
         if (exists) {
             throw new MemberException.AlreadyExistUserException();
         }
         
-        requestMember.setPassword(
-                passwordEncoder.encode(requestMember.getPassword()));
-        
-        return memberRepository.save(requestMember.toEntity());
+        // 저장이 DB 를 기다리는 동안 해싱 스레드를 잡고 있지 않도록 다른 스레드에서 저장
+        return passwordHasher.encode(requestMember.getPassword())
+                .thenApplyAsync(encoded -> {
+                    requestMember.setPassword(encoded);
+                    return memberRepository.save(requestMember.toEntity());
+                }, storeExecutor);
     }
 }
@@ -0,0 +1,188 @@
+package zerobase.dividend.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import zerobase.dividend.entity.CompanyEntity;
+import zerobase.dividend.entity.DividendMonthlyEntity;
+import zerobase.dividend.exception.PortfolioException;
+import zerobase.dividend.model.Company;
+import zerobase.dividend.model.Portfolio;
+import zerobase.dividend.repository.DividendMonthlyRepository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+@Service
+public class PortfolioService {
+    private static final int MONTHS = 12;
+    private static final int SCALE = 4;
+    
+    // IN 절 하나에 넣을 회사 수
+    private static final int FETCH_CHUNK = 1000;
+    
+    private final CompanyLookupCache companyLookupCache;
+    private final DividendMonthlyRepository dividendMonthlyRepository;
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+    private final int maxPositions;
+    
+    public PortfolioService(
+            CompanyLookupCache companyLookupCache,
+            DividendMonthlyRepository dividendMonthlyRepository,
+            @Value("${finance.portfolio.parallelism}") int parallelism,
+            @Value("${finance.portfolio.parallel-threshold}")
+            int parallelThreshold,
+            @Value("${finance.portfolio.max-positions}") int maxPositions) {
+        this.companyLookupCache = companyLookupCache;
+        this.dividendMonthlyRepository = dividendMonthlyRepository;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism :
+                                             Runtime.getRuntime()
+                                                     .availableProcessors());
+        this.parallelThreshold = parallelThreshold;
+        this.maxPositions = maxPositions;
+    }
+    
+    @Transactional(readOnly = true)
+    public Portfolio.Income project(Portfolio.Request request) {
+        return project(request, YearMonth.now());
+    }
+    
+    Portfolio.Income project(Portfolio.Request request, YearMonth now) {
+        List<Portfolio.Position> positions = request.getPositions() == null ?
+                List.of() : request.getPositions();
+        validate(positions);
+        
+        // 1. ticker 로 회사 조회 (메모리 캐시, 없는 ticker 는 묶어서 DB 조회)
+        Set<String> tickers = new TreeSet<>();
+        for (Portfolio.Position position : positions) {
+            tickers.add(Company.normalizeTicker(position.getTicker()));
+        }
+        Map<String, CompanyEntity> companies =
+                companyLookupCache.findAllByTickers(tickers);
+        Set<String> unknownTickers = new TreeSet<>(tickers);
+        unknownTickers.removeAll(companies.keySet());
+        
+        // 2. 최근 12개월 월별 합계를 묶어서 조회하고 회사별 주당 월 배당금으로 변환
+        Map<Long, BigDecimal[]> schedules = loadSchedules(
+                companies.values().stream().map(CompanyEntity::getId).toList(),
+                now);
+        
+        // 3. 포지션별 예상 수입은 병렬로 계산
+        List<Portfolio.PositionIncome> incomes =
+                positions.size() < parallelThreshold ?
+                        projectPositions(positions.stream(), companies,
+                                         schedules) :
+                        pool.submit(() -> projectPositions(
+                                positions.parallelStream(), companies,
+                                schedules)).join();
+        
+        // 4. 회사별 보유 수량을 합친 뒤 월별 수입 합산
+        Map<Long, BigDecimal> sharesByCompany = new HashMap<>();
+        for (Portfolio.Position position : positions) {
+            CompanyEntity company = companies.get(
+                    Company.normalizeTicker(position.getTicker()));
+            if (company != null) {
+                sharesByCompany.merge(company.getId(), position.getShares(),
+                                      BigDecimal::add);
+            }
+        }
+        
+        BigDecimal[] monthly = emptySchedule();
+        sharesByCompany.forEach((companyId, shares) -> {
+            BigDecimal[] schedule = schedules.get(companyId);
+            for (int i = 0; i < MONTHS; i++) {
+                monthly[i] = monthly[i].add(schedule[i].multiply(shares));
+            }
+        });
+        
+        Map<Integer, BigDecimal> monthlyIncome = new TreeMap<>();
+        BigDecimal annualIncome = BigDecimal.ZERO;
+        for (int i = 0; i < MONTHS; i++) {
+            monthlyIncome.put(i + 1, round(monthly[i]));
+            annualIncome = annualIncome.add(monthly[i]);
+        }
+        
+        return new Portfolio.Income(round(annualIncome), monthlyIncome,
+                                    incomes, new ArrayList<>(unknownTickers));
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+    
+    private Map<Long, BigDecimal[]> loadSchedules(List<Long> companyIds,
+                                                  YearMonth now) {
+        // 미래 지급월(선언만 된 배당)이 작년 같은 달에 겹치지 않도록 이번 달까지만
+        int from = DividendAnalyticsService.toPayMonth(now.minusMonths(11));
+        int to = DividendAnalyticsService.toPayMonth(now);
+        
+        Map<Long, BigDecimal[]> schedules = new HashMap<>();
+        companyIds.forEach(id -> schedules.put(id, emptySchedule()));
+        
+        for (int i = 0; i < companyIds.size(); i += FETCH_CHUNK) {
+            List<Long> chunk = companyIds.subList(
+                    i, Math.min(i + FETCH_CHUNK, companyIds.size()));
+            for (DividendMonthlyEntity month : dividendMonthlyRepository
+                    .findAllByCompanyIdInAndPayMonthBetween(
+                            chunk, from, to)) {
+                BigDecimal[] schedule = schedules.get(month.getCompanyId());
+                int index = month.getPayMonth() % 100 - 1;
+                schedule[index] = schedule[index].add(month.getTotal());
+            }
+        }
+        return schedules;
+    }
+    
+    private static List<Portfolio.PositionIncome> projectPositions(
+            Stream<Portfolio.Position> positions,
+            Map<String, CompanyEntity> companies,
+            Map<Long, BigDecimal[]> schedules) {
+        return positions.map(position -> {
+            CompanyEntity company = companies.get(
+                    Company.normalizeTicker(position.getTicker()));
+            BigDecimal perShare = BigDecimal.ZERO;
+            if (company != null) {
+                for (BigDecimal amount : schedules.get(company.getId())) {
+                    perShare = perShare.add(amount);
+                }
+            }
+            return new Portfolio.PositionIncome(
+                    position.getTicker(), position.getShares(),
+                    round(perShare.multiply(position.getShares())));
+        }).toList();
+    }
+    
+    private void validate(List<Portfolio.Position> positions) {
+        if (positions.size() > maxPositions) {
+            throw new PortfolioException.TooManyPositionsException(
+                    maxPositions);
+        }
+        
+        for (Portfolio.Position position : positions) {
+            if (position == null || position.getTicker() == null ||
+                    position.getTicker().isBlank() ||
+                    position.getShares() == null ||
+                    position.getShares().signum() <= 0) {
+                throw new PortfolioException.InvalidPositionException(
+                        String.valueOf(position));
+            }
+        }
+    }
+    
+    private static BigDecimal[] emptySchedule() {
+        BigDecimal[] schedule = new BigDecimal[MONTHS];
+        Arrays.fill(schedule, BigDecimal.ZERO);
+        return schedule;
+    }
+    
+    private static BigDecimal round(BigDecimal value) {
+        return value.setScale(SCALE, RoundingMode.HALF_UP);
+    }
+}
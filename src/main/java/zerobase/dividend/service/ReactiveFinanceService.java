@@ -0,0 +1,62 @@
+package zerobase.dividend.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import zerobase.dividend.model.ScrapedResult;
+import zerobase.dividend.type.CacheKey;
+
+// 배당금 조회의 논블로킹 경로 (finance.reactive.enabled=true 일 때만 존재)
+// - 캐시 조회/저장은 리액티브 레디스 명령으로 Lettuce 이벤트 루프에서 처리
+// - 캐시 미스일 때의 JPA 조회만 크기가 정해진 전용 스레드에서 실행
+// 캐시는 @Cacheable 경로와 같은 키/직렬화를 쓰므로 기존 캐시 삭제가 그대로 적용됨
+@Service
+@ConditionalOnProperty(name = "finance.reactive.enabled",
+        havingValue = "true")
+public class ReactiveFinanceService {
+    private final FinanceService financeService;
+    private final ReactiveRedisTemplate<String, Object> reactiveCacheTemplate;
+    private final Scheduler dbScheduler;
+    
+    public ReactiveFinanceService(
+            FinanceService financeService,
+            ReactiveRedisTemplate<String, Object> reactiveCacheTemplate,
+            @Value("${finance.reactive.db-threads}") int dbThreads,
+            @Value("${finance.reactive.db-queue}") int dbQueue) {
+        this.financeService = financeService;
+        this.reactiveCacheTemplate = reactiveCacheTemplate;
+        this.dbScheduler = Schedulers.newBoundedElastic(
+                dbThreads, dbQueue, "finance-db");
+    }
+    
+    public Mono<ScrapedResult> getDividendByCompanyName(String companyName) {
+        String key = CacheKey.redisKey(CacheKey.KEY_FINANCE, companyName);
+        
+        return reactiveCacheTemplate.opsForValue().get(key)
+                .cast(ScrapedResult.class)
+                .switchIfEmpty(Mono.defer(() -> load(key, companyName)));
+    }
+    
+    public ScrapedResult getDividendDelta(ScrapedResult result, long since) {
+        return financeService.getDividendDelta(result, since);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        dbScheduler.dispose();
+    }
+    
+    private Mono<ScrapedResult> load(String key, String companyName) {
+        return Mono.fromCallable(
+                        () -> financeService.loadByCompanyName(companyName))
+                .subscribeOn(dbScheduler)
+                .flatMap(result -> reactiveCacheTemplate.opsForValue()
+                        .set(key, result)
+                        .thenReturn(result));
+    }
+}
@@ -0,0 +1,208 @@
+package zerobase.dividend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import zerobase.dividend.entity.CompanyEntity;
+import zerobase.dividend.entity.ScrapRunEntity;
+import zerobase.dividend.entity.ScrapRunItemEntity;
+import zerobase.dividend.exception.ScrapRunException;
+import zerobase.dividend.model.ScrapRunProgress;
+import zerobase.dividend.repository.CompanyRepository;
+import zerobase.dividend.repository.ScrapRunItemRepository;
+import zerobase.dividend.repository.ScrapRunRepository;
+import zerobase.dividend.type.ScrapOutcome;
+import zerobase.dividend.type.ScrapRunStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 스케줄러 실행과 ticker 별 처리 결과를 DB 에 기록해서, 재시작 후 남은 ticker 만 이어서 처리
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScrapRunService {
+    private final ScrapRunRepository scrapRunRepository;
+    private final ScrapRunItemRepository scrapRunItemRepository;
+    private final CompanyRepository companyRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${scheduler.scrap.resume-window}")
+    private long resumeWindow;
+    
+    // 같은 runId 의 실행이 이미 있으면(다른 노드나 재시작 전) 그 실행을 그대로 사용
+    public ScrapRunEntity start(String runId, List<CompanyEntity> companies) {
+        Optional<ScrapRunEntity> existing =
+                scrapRunRepository.findByRunId(runId);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        
+        // 실행과 항목은 한 트랜잭션으로 저장, 동시에 만든 노드가 있으면 그쪽 실행을 사용
+        try {
+            return transactionTemplate.execute(status -> {
+                ScrapRunEntity run = scrapRunRepository.saveAndFlush(
+                        new ScrapRunEntity(runId, companies.size(),
+                                           LocalDateTime.now()));
+                scrapRunItemRepository.saveAll(
+                        companies.stream()
+                                .map(e -> new ScrapRunItemEntity(run.getId(), e))
+                                .toList());
+                return run;
+            });
+        } catch (DataIntegrityViolationException e) {
+            return scrapRunRepository.findByRunId(runId).orElseThrow(() -> e);
+        }
+    }
+    
+    // 이미 있는 실행에 회사를 다시 넣음 (재시도를 시간마다 한 실행에 모아서 기록)
+    // 처리된 항목은 다시 처리되지 않은 상태로 되돌리고, 없는 항목은 추가
+    @Transactional
+    public ScrapRunEntity reopen(ScrapRunEntity run,
+                                 List<CompanyEntity> companies) {
+        ScrapRunEntity managed = scrapRunRepository.findById(run.getId())
+                .orElseThrow(() -> new ScrapRunException.NoScrapRunException(
+                        run.getRunId()));
+        List<Long> companyIds =
+                companies.stream().map(CompanyEntity::getId).toList();
+        if (companyIds.isEmpty()) {
+            return managed;
+        }
+        
+        Set<Long> existing = new HashSet<>(
+                scrapRunItemRepository.findCompanyIds(run.getId(), companyIds));
+        if (!existing.isEmpty()) {
+            scrapRunItemRepository.reopen(run.getId(), existing);
+        }
+        List<ScrapRunItemEntity> added = companies.stream()
+                .filter(e -> !existing.contains(e.getId()))
+                .map(e -> new ScrapRunItemEntity(run.getId(), e))
+                .toList();
+        scrapRunItemRepository.saveAll(added);
+        
+        managed.reopen(added.size());
+        return managed;
+    }
+    
+    // 아직 처리되지 않은 회사 (생성 순서 유지)
+    public List<CompanyEntity> findPendingCompanies(ScrapRunEntity run) {
+        List<Long> companyIds =
+                scrapRunItemRepository.findPendingCompanyIds(run.getId());
+        Map<Long, CompanyEntity> companies =
+                companyRepository.findAllById(companyIds).stream()
+                        .collect(Collectors.toMap(CompanyEntity::getId,
+                                                  Function.identity()));
+        
+        return companyIds.stream()
+                .map(companies::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+    
+    // ticker 하나가 끝날 때마다 체크포인트
+    @Transactional
+    public void checkpoint(ScrapRunEntity run, CompanyEntity company,
+                           ScrapOutcome outcome, long durationMillis) {
+        scrapRunItemRepository.markFinished(
+                run.getId(), company.getId(), outcome, durationMillis,
+                LocalDateTime.now());
+    }
+    
+    // 다른 노드가 처리 중인 ticker 가 남아 있으면 마지막으로 끝나는 노드가 완료 처리
+    @Transactional
+    public void finish(ScrapRunEntity run) {
+        if (scrapRunItemRepository.countByScrapRunIdAndOutcomeIsNull(
+                run.getId()) > 0) {
+            return;
+        }
+        
+        scrapRunRepository.findById(run.getId()).ifPresent(
+                e -> e.finish(ScrapRunStatus.COMPLETED, LocalDateTime.now()));
+    }
+    
+    // 재개할 실행, 너무 오래된 실행은 다음 정기 실행에 맡기고 포기 처리
+    @Transactional
+    public List<ScrapRunEntity> findResumableRuns() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime threshold = now.minus(Duration.ofMillis(resumeWindow));
+        
+        List<ScrapRunEntity> resumable = new ArrayList<>();
+        for (ScrapRunEntity run :
+                scrapRunRepository.findAllByStatus(ScrapRunStatus.RUNNING)) {
+            if (run.getStartedAt().isBefore(threshold)) {
+                run.finish(ScrapRunStatus.ABANDONED, now);
+                log.info("Scrap run abandoned -> {}", run.getRunId());
+            } else {
+                resumable.add(run);
+            }
+        }
+        return resumable;
+    }
+    
+    @Transactional(readOnly = true)
+    public List<ScrapRunProgress> getRecentRuns(int size) {
+        return scrapRunRepository.findAllByOrderByStartedAtDesc(
+                        PageRequest.of(0, size)).stream()
+                .map(e -> toProgress(e, null))
+                .toList();
+    }
+    
+    @Transactional(readOnly = true)
+    public ScrapRunProgress getRun(String runId) {
+        ScrapRunEntity run = scrapRunRepository.findByRunId(runId)
+                .orElseThrow(() -> new ScrapRunException.NoScrapRunException(
+                        runId));
+        
+        List<ScrapRunProgress.Item> items =
+                scrapRunItemRepository.findAllByScrapRunIdOrderByIdAsc(
+                                run.getId()).stream()
+                        .map(e -> new ScrapRunProgress.Item(
+                                e.getTicker(), e.getOutcome(),
+                                e.getDurationMillis(), e.getFinishedAt()))
+                        .toList();
+        return toProgress(run, items);
+    }
+    
+    private ScrapRunProgress toProgress(ScrapRunEntity run,
+                                        List<ScrapRunProgress.Item> items) {
+        Map<ScrapOutcome, Long> counts = new EnumMap<>(ScrapOutcome.class);
+        long pending = 0;
+        for (Object[] row :
+                scrapRunItemRepository.countByOutcome(run.getId())) {
+            if (row[0] == null) {
+                pending = (Long) row[1];
+            } else {
+                counts.put((ScrapOutcome) row[0], (Long) row[1]);
+            }
+        }
+        
+        long done = counts.values().stream().mapToLong(Long::longValue).sum();
+        return new ScrapRunProgress(
+                run.getRunId(), run.getStatus(), run.getTotal(),
+                counts.getOrDefault(ScrapOutcome.SUCCESS, 0L),
+                counts.getOrDefault(ScrapOutcome.SKIPPED, 0L),
+                counts.getOrDefault(ScrapOutcome.FAILED, 0L),
+                pending, run.getStartedAt(), run.getFinishedAt(),
+                run.getStatus() == ScrapRunStatus.RUNNING ?
+                        eta(run.getStartedAt(), done, pending) : null,
+                items);
+    }
+    
+    static Long eta(LocalDateTime startedAt, long done, long pending) {
+        if (done <= 0) {
+            return null;
+        }
+        
+        long elapsed = Duration.between(startedAt, LocalDateTime.now())
+                .toSeconds();
+        return elapsed * pending / done;
+    }
+}
@@ -0,0 +1,128 @@
+package zerobase.dividend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import zerobase.dividend.entity.CompanyEntity;
+import zerobase.dividend.entity.ScrapTaskEntity;
+import zerobase.dividend.repository.CompanyRepository;
+import zerobase.dividend.repository.DividendRepository;
+import zerobase.dividend.repository.ScrapTaskRepository;
+import zerobase.dividend.type.Cadence;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 회사별 배당 주기로 다음 스크래핑 시각을 정하는 우선순위 큐 (SCRAP_TASK 테이블)
+// - 예상 배당일 근처: near-interval 마다 스크래핑
+// - 그 외: 예상일 직전까지 미루되 max-interval 은 넘기지 않음
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScrapTaskService {
+    // 주기 추정에 사용할 최근 지급 간격 수
+    private static final int RECENT_GAPS = 8;
+    private static final int MIN_WINDOW_DAYS = 3;
+    
+    private final ScrapTaskRepository scrapTaskRepository;
+    private final CompanyRepository companyRepository;
+    private final DividendRepository dividendRepository;
+    
+    @Value("${scheduler.scrap.priority.near-interval}")
+    private long nearInterval;
+    
+    @Value("${scheduler.scrap.priority.max-interval}")
+    private long maxInterval;
+    
+    public List<CompanyEntity> findDueCompanies(LocalDateTime now) {
+        // 작업이 없는 회사(기존 데이터)는 바로 대상이 되도록 생성
+        for (CompanyEntity company :
+                companyRepository.findAllWithoutScrapTask()) {
+            try {
+                scrapTaskRepository.save(
+                        new ScrapTaskEntity(company.getId(), now));
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Scrap task already created -> {}",
+                          company.getTicker());
+            }
+        }
+        
+        List<Long> companyIds = scrapTaskRepository
+                .findAllByNextScrapAtLessThanEqualOrderByNextScrapAtAsc(now)
+                .stream()
+                .map(ScrapTaskEntity::getCompanyId)
+                .toList();
+        
+        Map<Long, CompanyEntity> companies =
+                companyRepository.findAllById(companyIds).stream()
+                        .collect(Collectors.toMap(CompanyEntity::getId,
+                                                  Function.identity()));
+        
+        // 예정 시각이 이른 순서 유지
+        return companyIds.stream()
+                .map(companies::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+    
+    @Transactional
+    public Cadence reschedule(Long companyId, LocalDateTime now) {
+        ScrapTaskEntity task = scrapTaskRepository.findByCompanyId(companyId)
+                .orElseGet(() -> new ScrapTaskEntity(companyId, now));
+        
+        ScrapPlan plan = plan(
+                dividendRepository.findAllDatesByCompanyId(companyId), now);
+        task.reschedule(plan.cadence(), plan.expectedDate(),
+                        plan.nextScrapAt(), now);
+        
+        scrapTaskRepository.save(task);
+        return plan.cadence();
+    }
+    
+    ScrapPlan plan(List<LocalDateTime> dates, LocalDateTime now) {
+        LocalDateTime farNext = now.plus(Duration.ofMillis(maxInterval));
+        if (dates.size() < 2) {
+            return new ScrapPlan(Cadence.IRREGULAR, null, farNext);
+        }
+        
+        List<LocalDateTime> sorted = dates.stream().sorted().toList();
+        List<Long> gaps = new ArrayList<>();
+        for (int i = Math.max(1, sorted.size() - RECENT_GAPS);
+             i < sorted.size(); i++) {
+            gaps.add(ChronoUnit.DAYS.between(sorted.get(i - 1), sorted.get(i)));
+        }
+        long gap = Math.max(1, gaps.stream().sorted().toList()
+                .get(gaps.size() / 2));
+        
+        LocalDateTime expected = sorted.getLast().plusDays(gap);
+        long window = Math.max(MIN_WINDOW_DAYS, gap / 5);
+        LocalDateTime windowStart = expected.minusDays(window);
+        LocalDateTime windowEnd = expected.plusDays(Math.max(window, gap / 2));
+        
+        LocalDateTime next;
+        if (now.isBefore(windowStart)) {
+            next = windowStart.isBefore(farNext) ? windowStart : farNext;
+        } else if (!now.isAfter(windowEnd)) {
+            next = now.plus(Duration.ofMillis(nearInterval));
+        } else {
+            // 예상일이 한참 지났는데도 배당이 없으면 (중단/변경) 드물게 확인
+            next = farNext;
+        }
+        
+        return new ScrapPlan(Cadence.of(gap), expected, next);
+    }
+    
+    record ScrapPlan(Cadence cadence, LocalDateTime expectedDate,
+                     LocalDateTime nextScrapAt) {
+    }
+}
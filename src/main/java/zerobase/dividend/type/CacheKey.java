@@ -1,5 +1,13 @@
 package zerobase.dividend.type;
 
+import org.springframework.data.redis.cache.CacheKeyPrefix;
+
 public class CacheKey {
     public static final String KEY_FINANCE = "finance";
-}
\ No newline at end of file
+    public static final String KEY_ANALYTICS = "analytics";
+    
+    // RedisCacheManager 가 실제로 저장하는 레디스 키 (캐시 이름::키)
+    public static String redisKey(String cacheName, String key) {
+        return CacheKeyPrefix.simple().compute(cacheName) + key;
+    }
+}
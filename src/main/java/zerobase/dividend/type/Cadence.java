@@ -0,0 +1,50 @@
+package zerobase.dividend.type;
+
+import lombok.Getter;
+
+// 배당 지급 주기 (지급일 간격의 중앙값으로 추정)
+@Getter
+public enum Cadence {
+    MONTHLY(30),
+    QUARTERLY(91),
+    SEMIANNUAL(182),
+    ANNUAL(365),
+    IRREGULAR(0);
+    
+    // 주기와의 오차가 25% 이내일 때만 해당 주기로 판단
+    private static final double TOLERANCE = 0.25;
+    
+    private final int days;
+    
+    Cadence(int days) {
+        this.days = days;
+    }
+    
+    public static Cadence of(long gapDays) {
+        for (Cadence cadence : values()) {
+            if (cadence == IRREGULAR) {
+                continue;
+            }
+            if (Math.abs(gapDays - cadence.days) <=
+                    cadence.days * TOLERANCE) {
+                return cadence;
+            }
+        }
+        return IRREGULAR;
+    }
+    
+    // 1년 동안의 지급 횟수로 추정
+    public static Cadence ofPaymentsPerYear(int payments) {
+        for (Cadence cadence : values()) {
+            if (cadence != IRREGULAR &&
+                    cadence.getPaymentsPerYear() == payments) {
+                return cadence;
+            }
+        }
+        return IRREGULAR;
+    }
+    
+    public int getPaymentsPerYear() {
+        return days == 0 ? 0 : Math.round(365f / days);
+    }
+}
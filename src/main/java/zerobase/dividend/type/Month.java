@@ -20,9 +20,10 @@ public enum Month {
     DEC("Dec", 12);
     
     private static final HashMap<String, Integer> map = new HashMap<>();
+    private static final Month[] VALUES = Month.values();
     private final String month;
     private final int num;
-
+    
     static {
         for (Month m : Month.values()) {
             map.put(m.getMonth(), m.getNum());
@@ -38,4 +39,21 @@ public enum Month {
         Integer result = map.get(s);
         return (result != null) ? result : -1;
     }
+    
+    // 문자열을 만들지 않고 s[start, end) 구간의 세 글자 약어를 비교
+    public static int strToNumber(CharSequence s, int start, int end) {
+        if (end - start != 3) {
+            return -1;
+        }
+        
+        for (Month m : VALUES) {
+            String name = m.getMonth();
+            if (name.charAt(0) == s.charAt(start)
+                    && name.charAt(1) == s.charAt(start + 1)
+                    && name.charAt(2) == s.charAt(start + 2)) {
+                return m.getNum();
+            }
+        }
+        return -1;
+    }
 }
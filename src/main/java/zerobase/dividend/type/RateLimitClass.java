@@ -0,0 +1,27 @@
+package zerobase.dividend.type;
+
+import java.util.Set;
+
+// 요청 비용에 따라 나눈 처리율 제한 그룹 (그룹마다 한도를 따로 설정)
+public enum RateLimitClass {
+    // 스크래핑이나 대량 저장을 일으키는 요청
+    SCRAPE,
+    // 비밀번호 해싱을 하는 요청
+    AUTH,
+    READ;
+    
+    private static final Set<String> SCRAPE_PATHS = Set.of(
+            "/company", "/company/multiple", "/company/import");
+    private static final Set<String> AUTH_PATHS = Set.of(
+            "/auth/signin", "/auth/signup");
+    
+    public static RateLimitClass of(String method, String path) {
+        if ("POST".equals(method) && SCRAPE_PATHS.contains(path)) {
+            return SCRAPE;
+        }
+        if (AUTH_PATHS.contains(path)) {
+            return AUTH;
+        }
+        return READ;
+    }
+}
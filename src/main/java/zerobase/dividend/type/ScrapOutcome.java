@@ -0,0 +1,7 @@
+package zerobase.dividend.type;
+
+public enum ScrapOutcome {
+    SUCCESS,
+    SKIPPED,
+    FAILED
+}
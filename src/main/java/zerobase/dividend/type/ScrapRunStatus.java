@@ -0,0 +1,8 @@
+package zerobase.dividend.type;
+
+public enum ScrapRunStatus {
+    RUNNING,
+    COMPLETED,
+    // 재개 가능한 기간이 지나서 포기한 실행
+    ABANDONED
+}
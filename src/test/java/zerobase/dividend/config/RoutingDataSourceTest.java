@@ -0,0 +1,70 @@
+package zerobase.dividend.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RoutingDataSourceTest {
+    
+    // writer / reader 를 서로 다른 내장 DB 로 두고 어느 쪽에서 읽었는지 확인
+    private final EmbeddedDatabase writer = embedded(RoutingDataSource.WRITER);
+    private final EmbeddedDatabase reader = embedded(RoutingDataSource.READER);
+    
+    @AfterEach
+    void tearDown() {
+        writer.shutdown();
+        reader.shutdown();
+    }
+    
+    @Test
+    void readOnlyTransactionIsRoutedToReader() {
+        RoutingDataSource routingDataSource = new RoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(
+                RoutingDataSource.WRITER, writer,
+                RoutingDataSource.READER, reader));
+        routingDataSource.setDefaultTargetDataSource(writer);
+        routingDataSource.afterPropertiesSet();
+        
+        LazyConnectionDataSourceProxy dataSource =
+                new LazyConnectionDataSourceProxy(routingDataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(
+                new DataSourceTransactionManager(dataSource));
+        
+        assertEquals(RoutingDataSource.WRITER,
+                     transactionTemplate.execute(s -> node(jdbcTemplate)));
+        
+        transactionTemplate.setReadOnly(true);
+        assertEquals(RoutingDataSource.READER,
+                     transactionTemplate.execute(s -> node(jdbcTemplate)));
+        
+        // 트랜잭션 밖의 쿼리는 writer
+        assertEquals(RoutingDataSource.WRITER, node(jdbcTemplate));
+    }
+    
+    private static String node(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("SELECT name FROM node",
+                                           String.class);
+    }
+    
+    private static EmbeddedDatabase embedded(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(16))");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+        return database;
+    }
+}
@@ -0,0 +1,165 @@
+package zerobase.dividend.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScrapCoordinatorTest {
+    
+    private static final String RUN_ID = "2024-04-05";
+    private static final Duration LEASE_TTL = Duration.ofMillis(300);
+    
+    private final ScrapLeaseStore leaseStore = new InMemoryScrapLeaseStore();
+    private final List<ScrapCoordinator> nodes = new ArrayList<>();
+    private final Map<String, AtomicInteger> scrapCounts =
+            new ConcurrentHashMap<>();
+    private final Map<String, String> scrapedBy = new ConcurrentHashMap<>();
+    private final Set<String> alreadyDone = ConcurrentHashMap.newKeySet();
+    private final Set<String> failed = ConcurrentHashMap.newKeySet();
+    
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(ScrapCoordinator::shutdown);
+    }
+    
+    @Test
+    void eachTickerIsScrapedExactlyOnceAcrossNodes() throws Exception {
+        List<String> tickers = tickers(300);
+        for (int i = 0; i < 3; i++) {
+            nodes.add(new ScrapCoordinator(leaseStore, "node-" + i, LEASE_TTL));
+        }
+        
+        runOnAllNodes(tickers);
+        
+        assertEquals(tickers.size(), scrapCounts.size());
+        scrapCounts.forEach((ticker, count) ->
+                                    assertEquals(1, count.get(), ticker));
+        // 모든 노드가 작업을 나눠 가졌는지 확인
+        nodes.forEach(node -> assertTrue(
+                scrapedBy.containsValue(node.getNodeId()), node.getNodeId()));
+    }
+    
+    @Test
+    void leaseOfDeadNodeIsStolenAfterExpiry() throws Exception {
+        List<String> tickers = tickers(20);
+        
+        // 임대를 잡은 채 죽은 노드 (하트비트/연장 없음)
+        leaseStore.tryAcquire(ScrapCoordinator.leaseKey(RUN_ID, "T0"),
+                              "dead-node", LEASE_TTL);
+        nodes.add(new ScrapCoordinator(leaseStore, "node-0", LEASE_TTL));
+        nodes.add(new ScrapCoordinator(leaseStore, "node-1", LEASE_TTL));
+        
+        runOnAllNodes(tickers);
+        
+        assertEquals(tickers.size(), scrapCounts.size());
+        scrapCounts.forEach((ticker, count) ->
+                                    assertEquals(1, count.get(), ticker));
+    }
+    
+    @Test
+    void itemsDoneBeforeRestartAreReportedWithoutRunning() throws Exception {
+        List<String> tickers = tickers(10);
+        
+        // 재시작 전에 끝낸 ticker 는 완료 표시만 남아 있음
+        leaseStore.markDone(ScrapCoordinator.doneKey(RUN_ID, "T0"),
+                            Duration.ofMinutes(1));
+        nodes.add(new ScrapCoordinator(leaseStore, "node-0", LEASE_TTL));
+        
+        runOnAllNodes(tickers);
+        
+        assertEquals(Set.of("T0"), alreadyDone);
+        assertEquals(tickers.size() - 1, scrapCounts.size());
+    }
+    
+    @Test
+    void failedWorkIsRecordedOnceAndMarkedDone() throws Exception {
+        ScrapCoordinator node =
+                new ScrapCoordinator(leaseStore, "node-0", LEASE_TTL);
+        nodes.add(node);
+        
+        node.runAll(RUN_ID, tickers(3), ticker -> ticker,
+                    ticker -> {
+                        scrap(node, ticker);
+                        if (ticker.equals("T1")) {
+                            throw new IllegalStateException("down");
+                        }
+                    },
+                    alreadyDone::add, failed::add, 2);
+        
+        assertEquals(Set.of("T1"), failed);
+        assertEquals(1, scrapCounts.get("T1").get());
+        assertTrue(leaseStore.isDone(ScrapCoordinator.doneKey(RUN_ID, "T1")));
+    }
+    
+    @Test
+    void unrecordedFailureReleasesLeaseWithoutDone() {
+        ScrapCoordinator node =
+                new ScrapCoordinator(leaseStore, "node-0", LEASE_TTL);
+        nodes.add(node);
+        
+        // 실패 기록도 실패하면 이 노드는 포기하고 실행을 끝냄
+        node.runAll(RUN_ID, tickers(2), ticker -> ticker,
+                    ticker -> {
+                        scrap(node, ticker);
+                        if (ticker.equals("T0")) {
+                            throw new IllegalStateException("down");
+                        }
+                    },
+                    alreadyDone::add,
+                    ticker -> {
+                        throw new IllegalStateException("still down");
+                    }, 2);
+        
+        assertEquals(1, scrapCounts.get("T0").get());
+        assertFalse(leaseStore.isDone(ScrapCoordinator.doneKey(RUN_ID, "T0")));
+        assertTrue(leaseStore.isDone(ScrapCoordinator.doneKey(RUN_ID, "T1")));
+        
+        // 임대가 풀려 있어서 다른 노드가 바로 가져갈 수 있음
+        assertTrue(leaseStore.tryAcquire(
+                ScrapCoordinator.leaseKey(RUN_ID, "T0"), "node-1", LEASE_TTL));
+    }
+    
+    private void runOnAllNodes(List<String> tickers) throws Exception {
+        try (ExecutorService executor =
+                     Executors.newFixedThreadPool(nodes.size())) {
+            for (ScrapCoordinator node : nodes) {
+                executor.submit(() -> node.runAll(
+                        RUN_ID, tickers, ticker -> ticker,
+                        ticker -> scrap(node, ticker),
+                        ticker -> alreadyDone.add(ticker),
+                        ticker -> failed.add(ticker), 4));
+            }
+        }
+    }
+    
+    private void scrap(ScrapCoordinator node, String ticker) {
+        scrapCounts.computeIfAbsent(ticker, k -> new AtomicInteger())
+                .incrementAndGet();
+        scrapedBy.put(ticker, node.getNodeId());
+        try {
+            Thread.sleep(2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private static List<String> tickers(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "T" + i)
+                .toList();
+    }
+}
@@ -0,0 +1,128 @@
+package zerobase.dividend.scheduler;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import zerobase.dividend.entity.CompanyEntity;
+import zerobase.dividend.model.Company;
+import zerobase.dividend.repository.CompanyRepository;
+import zerobase.dividend.repository.DividendRepository;
+import zerobase.dividend.scraper.YahooStubServer;
+
+import java.io.IOException;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 네트워크 없이 스텁 서버로 스케줄러 실행 전체를 재현하는 벤치마크
+// ./gradlew replayBenchmark -Dreplay.tickers=1000 -Dreplay.latency-ms=80 -Dreplay.error-rate=0.1
+@SpringBootTest(properties = {
+        "scheduler.scrap.yahoo=-",
+        "scraper.concurrency.initial=4",
+        "scraper.concurrency.max=16",
+        "scraper.retry.base-delay=10",
+        "scraper.retry.max-delay=200",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Tag("benchmark")
+class ScraperReplayBenchmarkTest {
+    
+    private static final Logger log =
+            LoggerFactory.getLogger(ScraperReplayBenchmarkTest.class);
+    
+    private static final int TICKERS = Integer.getInteger(
+            "replay.tickers", 300);
+    private static final long LATENCY_MILLIS = Long.getLong(
+            "replay.latency-ms", 50);
+    private static final long JITTER_MILLIS = Long.getLong(
+            "replay.jitter-ms", 50);
+    private static final double ERROR_RATE = Double.parseDouble(
+            System.getProperty("replay.error-rate", "0.05"));
+    
+    // 녹화된 히스토리 페이지의 배당금 행 수
+    private static final int ROWS_PER_TICKER = 217;
+    
+    private static YahooStubServer stubServer;
+    
+    // 레디스 없이 실행
+    @MockBean(name = "redisCacheManager")
+    private CacheManager redisCacheManager;
+    
+    @Autowired
+    private CompanyRepository companyRepository;
+    
+    @Autowired
+    private DividendRepository dividendRepository;
+    
+    @Autowired
+    private ScraperScheduler scraperScheduler;
+    
+    @Autowired
+    private ScrapRetryQueue scrapRetryQueue;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @DynamicPropertySource
+    static void stubProperties(DynamicPropertyRegistry registry)
+            throws IOException {
+        stubServer = new YahooStubServer(
+                LATENCY_MILLIS, JITTER_MILLIS, ERROR_RATE);
+        registry.add("scraper.yahoo.base-url", stubServer::getBaseUrl);
+    }
+    
+    @AfterAll
+    static void tearDown() {
+        stubServer.close();
+    }
+    
+    @Test
+    void replayScheduledScrape() {
+        companyRepository.saveAll(IntStream.range(0, TICKERS)
+                                          .mapToObj(i -> new CompanyEntity(
+                                                  new Company("T" + i,
+                                                              "T" + i + " Inc.")))
+                                          .toList());
+        
+        Statistics statistics = entityManagerFactory
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        
+        long start = System.nanoTime();
+        scraperScheduler.yahooFinanceScheduling();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        
+        long rows = dividendRepository.count();
+        int failed = scrapRetryQueue.size();
+        
+        log.info("Replay result -> tickers: {}, elapsed: {} s, " +
+                         "throughput: {} tickers/s",
+                 TICKERS, String.format("%.2f", seconds),
+                 String.format("%.1f", TICKERS / seconds));
+        log.info("Upstream -> requests: {}, injected errors: {}, " +
+                         "queued for retry: {}",
+                 stubServer.getRequests(), stubServer.getErrors(), failed);
+        log.info("DB writes -> rows: {} ({} rows/s), entity inserts: {}, " +
+                         "statements: {}, transactions: {}",
+                 rows, String.format("%.0f", rows / seconds),
+                 statistics.getEntityInsertCount(),
+                 statistics.getPrepareStatementCount(),
+                 statistics.getTransactionCount());
+        
+        assertTrue(rows > 0);
+        assertEquals((long) (TICKERS - failed) * ROWS_PER_TICKER, rows);
+    }
+}
@@ -0,0 +1,168 @@
+package zerobase.dividend.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+import zerobase.dividend.entity.CompanyEntity;
+import zerobase.dividend.entity.DividendEntity;
+import zerobase.dividend.entity.ScrapRunEntity;
+import zerobase.dividend.model.Company;
+import zerobase.dividend.repository.CompanyRepository;
+import zerobase.dividend.scraper.AdaptiveConcurrencyLimiter;
+import zerobase.dividend.scraper.RetryPolicy;
+import zerobase.dividend.scraper.ScrapValidatorStore;
+import zerobase.dividend.scraper.YahooFinanceScraper;
+import zerobase.dividend.scraper.YahooStubServer;
+import zerobase.dividend.service.DividendService;
+import zerobase.dividend.service.ScrapRunService;
+import zerobase.dividend.service.ScrapTaskService;
+import zerobase.dividend.type.ScrapOutcome;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ScraperSchedulerTest {
+    
+    private final YahooStubServer server = new YahooStubServer(0, 0, 0);
+    private final ScrapValidatorStore validatorStore =
+            new ScrapValidatorStore();
+    private final DividendService dividendService = mock(DividendService.class);
+    private final AdaptiveConcurrencyLimiter limiter =
+            new AdaptiveConcurrencyLimiter(1, 1, 1, 10_000);
+    private final CompanyRepository companyRepository =
+            mock(CompanyRepository.class);
+    private final ScrapRunService scrapRunService = mock(ScrapRunService.class);
+    private final ScrapRetryQueue retryQueue = new ScrapRetryQueue(2);
+    private final ScrapCoordinator coordinator = mock(ScrapCoordinator.class);
+    
+    private final ScraperScheduler scheduler = new ScraperScheduler(
+            companyRepository,
+            new YahooFinanceScraper(HttpClient.newHttpClient(), validatorStore,
+                                    server.getBaseUrl()),
+            validatorStore,
+            dividendService,
+            mock(ScrapTaskService.class),
+            scrapRunService,
+            limiter,
+            new RetryPolicy(1, 0, 0),
+            retryQueue,
+            coordinator,
+            mock(ScrapMetrics.class),
+            mock(CacheManager.class));
+    
+    private final CompanyEntity company =
+            new CompanyEntity(new Company("MMM", "3M Company"));
+    
+    ScraperSchedulerTest() throws IOException {
+    }
+    
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+    
+    @Test
+    void failedSaveIsScrapedAgainOnNextRun() {
+        when(dividendService.saveNewDividends(any(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(List.of(mock(DividendEntity.class)));
+        
+        // 저장이 실패하면 검증값이 남지 않음
+        assertEquals(ScrapOutcome.FAILED, scrap());
+        assertNull(validatorStore.get(server.getBaseUrl(), "MMM"));
+        
+        // 다음 실행은 같은 페이지를 다시 받아서 저장
+        assertEquals(ScrapOutcome.SUCCESS, scrap());
+        assertNotNull(validatorStore.get(server.getBaseUrl(), "MMM"));
+        // 다른 소스에는 이 호스트의 검증값을 보내지 않음
+        assertNull(validatorStore.get("http://127.0.0.1:1", "MMM"));
+        verify(dividendService, times(2)).saveNewDividends(any(), anyList());
+        
+        // 저장된 뒤에는 같은 페이지를 건너뜀
+        assertEquals(ScrapOutcome.SKIPPED, scrap());
+        assertEquals(3, server.getRequests());
+        verify(dividendService, times(2)).saveNewDividends(any(), anyList());
+    }
+    
+    @Test
+    void permitIsReleasedBeforeSaving() {
+        // 한도 1 에서 저장 중에 다른 스레드가 permit 을 얻을 수 있어야 함
+        when(dividendService.saveNewDividends(any(), anyList()))
+                .thenAnswer(invocation -> {
+                    CompletableFuture.runAsync(() -> {
+                        try {
+                            limiter.acquire();
+                            limiter.onIgnored();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }).get(1, TimeUnit.SECONDS);
+                    return List.of();
+                });
+        
+        assertEquals(ScrapOutcome.SUCCESS, scrap());
+    }
+    
+    @Test
+    void retriesAreRecordedInOneRunPerHour() {
+        retryQueue.add("MMM");
+        retryQueue.add("MMM");
+        ScrapRunEntity run = new ScrapRunEntity("retry", 1, null);
+        when(companyRepository.findAllByTickerIn(any()))
+                .thenReturn(List.of(company));
+        when(scrapRunService.start(anyString(), anyList())).thenReturn(run);
+        when(scrapRunService.reopen(run, List.of(company))).thenReturn(run);
+        
+        scheduler.retryFailedScheduling();
+        
+        String hour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS)
+                .toString();
+        verify(scrapRunService).start("retry-" + hour, List.of(company));
+        verify(scrapRunService).reopen(run, List.of(company));
+        
+        // 같은 실행 안에서도 몇 번째 재시도인지로 완료 표시를 구분
+        ArgumentCaptor<Function<CompanyEntity, String>> keyOf =
+                ArgumentCaptor.captor();
+        verify(coordinator).runAll(eq("retry"), eq(List.of(company)),
+                                   keyOf.capture(), any(), any(), any(),
+                                   anyInt());
+        assertEquals("MMM#2", keyOf.getValue().apply(company));
+        assertEquals(0, retryQueue.size());
+    }
+    
+    @Test
+    void retryQueueStopsAfterMaxAttempts() {
+        assertTrue(retryQueue.add("MMM"));
+        assertTrue(retryQueue.add("MMM"));
+        
+        // 그 뒤로는 다음 스크래핑 시각에 맡김
+        assertFalse(retryQueue.add("MMM"));
+        assertEquals(Map.of("MMM", 2), retryQueue.drain());
+        
+        // 한도를 넘긴 뒤나 성공한 뒤에는 다시 처음부터 셈
+        assertTrue(retryQueue.add("MMM"));
+        retryQueue.reset("MMM");
+        assertEquals(Map.of("MMM", 1), retryQueue.drain());
+    }
+    
+    private ScrapOutcome scrap() {
+        return scheduler.scrapWithRetry(company, new ScrapRunStats());
+    }
+}
@@ -0,0 +1,77 @@
+package zerobase.dividend.scraper;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+    
+    @Test
+    void limitIncreasesAdditivelyUpToMax() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter =
+                new AdaptiveConcurrencyLimiter(1, 1, 3, 100);
+        
+        // 1 -> 2 -> 2.5 -> 2.9 -> 3.24 (최대 3)
+        succeed(limiter, 1);
+        assertEquals(2, limiter.getLimit());
+        succeed(limiter, 2);
+        assertEquals(2, limiter.getLimit());
+        succeed(limiter, 10);
+        assertEquals(3, limiter.getLimit());
+    }
+    
+    @Test
+    void dropsAndSlowResponsesHalveLimitDownToMin()
+            throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter =
+                new AdaptiveConcurrencyLimiter(8, 2, 16, 100);
+        
+        limiter.acquire();
+        limiter.onDropped();
+        assertEquals(4, limiter.getLimit());
+        
+        limiter.acquire();
+        limiter.onSuccess(500);
+        assertEquals(2, limiter.getLimit());
+        
+        limiter.acquire();
+        limiter.onDropped();
+        assertEquals(2, limiter.getLimit());
+        
+        // 상위 서버와 무관한 실패는 한도를 바꾸지 않음
+        limiter.acquire();
+        limiter.onIgnored();
+        assertEquals(2, limiter.getLimit());
+    }
+    
+    @Test
+    void acquireWaitsForRelease() throws Exception {
+        AdaptiveConcurrencyLimiter limiter =
+                new AdaptiveConcurrencyLimiter(1, 1, 1, 100);
+        limiter.acquire();
+        
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(() -> {
+            try {
+                limiter.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Thread.sleep(100);
+        assertFalse(waiting.isDone());
+        
+        limiter.onSuccess(10);
+        waiting.get(1, TimeUnit.SECONDS);
+    }
+    
+    private static void succeed(AdaptiveConcurrencyLimiter limiter, int times)
+            throws InterruptedException {
+        for (int i = 0; i < times; i++) {
+            limiter.acquire();
+            limiter.onSuccess(10);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package zerobase.dividend.scraper;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import zerobase.dividend.exception.ScraperException;
+import zerobase.dividend.model.Company;
+import zerobase.dividend.model.ScrapedResult;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 지연/오류율이 다른 로컬 스텁 서버 여러 개로 헤지와 장애 전환 확인
+class CompositeScraperTest {
+    
+    private static final HedgePolicy POLICY =
+            new HedgePolicy(0.95, 50, 200, 0.5, 60_000);
+    
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final List<YahooStubServer> servers = new ArrayList<>();
+    private CompositeScraper scraper;
+    
+    @AfterEach
+    void tearDown() {
+        if (scraper != null) {
+            scraper.shutdown();
+        }
+        servers.forEach(YahooStubServer::close);
+    }
+    
+    @Test
+    void slowPrimaryIsHedgedToFasterSource() throws IOException {
+        YahooStubServer slow = server(3000, 0);
+        YahooStubServer fast = server(20, 0);
+        scraper = composite(slow, fast);
+        
+        long start = System.nanoTime();
+        ScrapedResult result = scraper.scrapCompanyWithDividends("MMM");
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        
+        assertEquals("MMM Inc.", result.getCompany().getName());
+        assertFalse(result.getDividendEntities().isEmpty());
+        assertTrue(elapsedMillis < 1500, "elapsed " + elapsedMillis);
+        assertEquals(1, scraper.getHedgedCount());
+    }
+    
+    @Test
+    void failingSourceIsDemoted() throws IOException {
+        YahooStubServer broken = server(0, 1.0);
+        YahooStubServer healthy = server(10, 0);
+        scraper = composite(broken, healthy);
+        
+        for (int i = 0; i < 5; i++) {
+            assertEquals("T" + i + " Inc.",
+                         scraper.scrapCompanyByTicker("T" + i).getName());
+        }
+        
+        // 실패한 소스는 건강 점수 순서에서 밀려서 더 이상 먼저 요청하지 않음
+        int brokenRequests = broken.getRequests();
+        for (int i = 0; i < 5; i++) {
+            scraper.scrapCompanyByTicker("U" + i);
+        }
+        assertEquals(brokenRequests, broken.getRequests());
+        assertTrue(scraper.getSources().get(0).getScore() <
+                           scraper.getSources().get(1).getScore());
+    }
+    
+    @Test
+    void notFoundIsNotRetriedOnOtherSources() throws IOException {
+        YahooStubServer first = server(10, 0);
+        YahooStubServer second = server(10, 0);
+        scraper = composite(first, second);
+        
+        assertThrows(ScraperException.UpstreamStatusException.class,
+                     () -> scraper.scrapIfModified(
+                             new Company("NOTFOUND", "Nothing")));
+        assertEquals(0, second.getRequests());
+    }
+    
+    private YahooStubServer server(long latencyMillis, double errorRate)
+            throws IOException {
+        YahooStubServer server = new YahooStubServer(
+                latencyMillis, 0, errorRate);
+        servers.add(server);
+        return server;
+    }
+    
+    private CompositeScraper composite(YahooStubServer... stubs) {
+        ScrapValidatorStore store = new ScrapValidatorStore();
+        List<ScrapSource> sources = new ArrayList<>();
+        for (YahooStubServer stub : stubs) {
+            sources.add(new ScrapSource(
+                    stub.getBaseUrl().substring("http://".length()),
+                    new YahooFinanceScraper(httpClient, store,
+                                            stub.getBaseUrl())));
+        }
+        return new CompositeScraper(sources, POLICY);
+    }
+}
@@ -0,0 +1,35 @@
+package zerobase.dividend.scraper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetryPolicyTest {
+    
+    private final RetryPolicy policy = new RetryPolicy(5, 100, 1000);
+    
+    @Test
+    void backoffStaysWithinExponentialCap() {
+        long[] caps = {100, 200, 400, 800, 1000, 1000};
+        for (int attempt = 1; attempt <= caps.length; attempt++) {
+            long max = 0;
+            for (int i = 0; i < 2000; i++) {
+                long backoff = policy.backoffMillis(attempt);
+                assertTrue(backoff >= 0 && backoff <= caps[attempt - 1],
+                           attempt + " -> " + backoff);
+                max = Math.max(max, backoff);
+            }
+            // full jitter 이므로 상한 근처까지 고르게 나옴
+            assertTrue(max > caps[attempt - 1] / 2, attempt + " -> " + max);
+        }
+    }
+    
+    @Test
+    void largeAttemptDoesNotOverflow() {
+        for (int attempt : new int[]{30, 64, 1000}) {
+            long backoff = policy.backoffMillis(attempt);
+            assertTrue(backoff >= 0 && backoff <= 1000,
+                       attempt + " -> " + backoff);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package zerobase.dividend.scraper;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.Test;
+import zerobase.dividend.model.Dividend;
+import zerobase.dividend.type.Month;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class YahooHistoryParserTest {
+    
+    private static final String ROW =
+            "<tr class=\"BdT\"><td class=\"Py(10px)\"><span>%s</span></td>" +
+                    "<td colspan=\"6\">%s</td></tr>\n";
+    
+    @Test
+    void parsesRecordedHistoryPage() throws IOException {
+        String html = fixture();
+        
+        List<Dividend> dividends = YahooHistoryParser.parseDividends(html);
+        
+        assertEquals(217, dividends.size());
+        assertEquals(new Dividend(LocalDateTime.of(2024, 2, 16, 0, 0), "1.51"),
+                     dividends.getFirst());
+        assertEquals(new Dividend(LocalDateTime.of(1970, 2, 16, 0, 0), "0.05"),
+                     dividends.getLast());
+        assertEquals(parseWithJsoup(html), dividends);
+    }
+    
+    @Test
+    void splitAndPriceRowsAreSkipped() {
+        String html = page(
+                row("Feb 16, 2024",
+                    "<strong>1.51</strong> <span>Dividend</span>"),
+                row("Jan 10, 2024",
+                    "<strong>2:1</strong> <span>Stock Splits</span>"),
+                "<tr><td><span>Jan 09, 2024</span></td><td>95.10</td>" +
+                        "<td>96.00</td><td>94.80</td><td>95.50</td>" +
+                        "<td>95.50</td><td>3,120,400</td></tr>\n",
+                "<tr><td colspan=\"7\"></td></tr>\n",
+                row("Nov 15, 2023",
+                    "<strong>1.48</strong> <span>Dividend</span>"));
+        
+        List<Dividend> dividends = YahooHistoryParser.parseDividends(html);
+        
+        assertEquals(List.of(
+                new Dividend(LocalDateTime.of(2024, 2, 16, 0, 0), "1.51"),
+                new Dividend(LocalDateTime.of(2023, 11, 15, 0, 0), "1.48")),
+                     dividends);
+        assertEquals(parseWithJsoup(html), dividends);
+    }
+    
+    @Test
+    void missingTableIsRejected() {
+        assertThrows(RuntimeException.class,
+                     () -> YahooHistoryParser.parseDividends(
+                             "<html><body></body></html>"));
+    }
+    
+    @Test
+    void tokenizeRecordsTextRangesOutsideTags() {
+        String row = String.format(
+                ROW, "Feb 16, 2024",
+                "<strong>1.51</strong> <span>Dividend</span>");
+        int[] tokens = new int[10];
+        
+        int found = YahooHistoryParser.tokenize(row, row.indexOf('>') + 1,
+                                                row.length(), tokens);
+        
+        assertEquals(5, found);
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < found; i++) {
+            texts.add(row.substring(tokens[i * 2], tokens[i * 2 + 1]));
+        }
+        assertEquals(List.of("Feb", "16", "2024", "1.51", "Dividend"), texts);
+    }
+    
+    @Test
+    void unknownMonthIsRejected() {
+        String html = page(row("Foo 16, 2024",
+                               "<strong>1.51</strong> <span>Dividend</span>"));
+        
+        assertThrows(RuntimeException.class,
+                     () -> YahooHistoryParser.parseDividends(html));
+    }
+    
+    // 기존 DOM 파싱 (Dividend 라벨이 있는 행만)
+    private static List<Dividend> parseWithJsoup(String html) {
+        Element tbody = Jsoup.parse(html)
+                .getElementsByAttributeValue("data-test", "historical-prices")
+                .getFirst()
+                .selectFirst("tbody");
+        
+        List<Dividend> dividends = new ArrayList<>();
+        for (Element e : tbody.children()) {
+            String[] splits = e.text().split(" ");
+            if (splits.length < 5 || !splits[4].equals("Dividend")) {
+                continue;
+            }
+            int month = Month.strToNumber(splits[0]);
+            int day = Integer.parseInt(splits[1].replace(",", ""));
+            int year = Integer.parseInt(splits[2]);
+            dividends.add(new Dividend(
+                    LocalDateTime.of(year, month, day, 0, 0), splits[3]));
+        }
+        return dividends;
+    }
+    
+    private static String row(String date, String cell) {
+        return String.format(ROW, date, cell);
+    }
+    
+    private static String page(String... rows) {
+        return "<html><body><table data-test=\"historical-prices\">" +
+                "<thead><tr><th>Date</th><th>Open</th></tr></thead><tbody>" +
+                String.join("", rows) +
+                "</tbody></table></body></html>";
+    }
+    
+    private static String fixture() throws IOException {
+        try (InputStream in = YahooHistoryParserTest.class.getResourceAsStream(
+                "/fixtures/yahoo/history-MMM.html")) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package zerobase.dividend.scraper;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 녹화된 야후 페이지를 돌려주는 로컬 스텁 서버 (지연 시간/오류율 설정 가능)
+// - /quote/{ticker}/history : 히스토리 페이지
+// - /quote/{ticker}         : 요약 페이지
+// - NOTFOUND 로 시작하는 ticker 는 404
+public class YahooStubServer implements AutoCloseable {
+    private static final String FIXTURE = "/fixtures/yahoo/history-MMM.html";
+    private static final String FIXTURE_TITLE = "3M Company (MMM)";
+    
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String template;
+    
+    private final long latencyMillis;
+    private final long jitterMillis;
+    private final double errorRate;
+    
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger errors = new AtomicInteger();
+    
+    public YahooStubServer(long latencyMillis, long jitterMillis,
+                           double errorRate) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.jitterMillis = jitterMillis;
+        this.errorRate = errorRate;
+        
+        try (InputStream in = getClass().getResourceAsStream(FIXTURE)) {
+            template = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        
+        executor = Executors.newFixedThreadPool(64);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/quote/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+    
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+    
+    public int getRequests() {
+        return requests.get();
+    }
+    
+    public int getErrors() {
+        return errors.get();
+    }
+    
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try (exchange) {
+            String[] paths = exchange.getRequestURI().getPath().split("/");
+            String ticker = paths.length > 2 ? paths[2] : "";
+            
+            sleep();
+            
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (random.nextDouble() < errorRate) {
+                errors.incrementAndGet();
+                respond(exchange, random.nextBoolean() ? 429 : 503, "");
+                return;
+            }
+            if (ticker.isEmpty() || ticker.startsWith("NOTFOUND")) {
+                respond(exchange, 404, "");
+                return;
+            }
+            
+            respond(exchange, 200, template.replace(
+                    FIXTURE_TITLE, ticker + " Inc. (" + ticker + ")"));
+        }
+    }
+    
+    private void sleep() {
+        long jitter = jitterMillis > 0 ?
+                ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0;
+        try {
+            Thread.sleep(latencyMillis + jitter);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void respond(HttpExchange exchange, int status, String body)
+            throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set(
+                "Content-Type", "text/html; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 :
+                bytes.length);
+        if (bytes.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+    
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,52 @@
+package zerobase.dividend.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ActuatorSecurityTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Test
+    void healthIsPublic() throws Exception {
+        // 레디스가 없으면 DOWN(503) 일 수 있으므로 권한 거부만 아니면 됨
+        int status = mockMvc.perform(get("/actuator/health"))
+                .andReturn().getResponse().getStatus();
+        
+        assertNotEquals(401, status);
+        assertNotEquals(403, status);
+    }
+    
+    @Test
+    void metricsNeedToken() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+    }
+    
+    @Test
+    @WithMockUser(roles = "READ")
+    void metricsNeedWriteRole() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isForbidden());
+    }
+    
+    @Test
+    @WithMockUser(roles = "WRITE")
+    void writerCanReadMetrics() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isOk());
+    }
+}
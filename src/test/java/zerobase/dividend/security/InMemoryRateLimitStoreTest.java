@@ -0,0 +1,55 @@
+package zerobase.dividend.security;
+
+import org.junit.jupiter.api.Test;
+import zerobase.dividend.type.RateLimitClass;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryRateLimitStoreTest {
+    
+    @Test
+    void rejectsAfterCapacityIsUsed() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore();
+        RateLimitPolicy policy = new RateLimitPolicy(2, 60);
+        
+        assertEquals(0, store.tryAcquire("ip:1", policy));
+        assertEquals(0, store.tryAcquire("ip:1", policy));
+        
+        // 초당 1개씩 채워지므로 1초 안에 다시 시도 가능
+        long retryAfter = store.tryAcquire("ip:1", policy);
+        assertTrue(retryAfter > 0 && retryAfter <= 1000);
+        
+        // 버킷은 키마다 따로
+        assertEquals(0, store.tryAcquire("user:grace", policy));
+    }
+    
+    @Test
+    void sweepRemovesOnlyRefilledBuckets() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore();
+        RateLimitPolicy policy = new RateLimitPolicy(2, 60);
+        
+        for (int i = 0; i < 1000; i++) {
+            store.tryAcquire("ip:" + i, policy);
+        }
+        store.tryAcquire("ip:0", policy);
+        
+        // 방금 쓴 버킷은 아직 가득 차지 않음
+        assertEquals(0, store.sweep(System.nanoTime()));
+        assertEquals(1000, store.size());
+        
+        // 1초에 하나씩 채워지므로 1초 뒤에는 ip:0 (2개 사용) 만 남음
+        long later = System.nanoTime() + 1_500_000_000L;
+        assertEquals(999, store.sweep(later));
+        assertEquals(1, store.size());
+        assertEquals(1, store.sweep(later + 1_000_000_000L));
+    }
+    
+    @Test
+    void classifyEndpoints() {
+        assertEquals(RateLimitClass.SCRAPE,
+                     RateLimitClass.of("POST", "/company/multiple"));
+        assertEquals(RateLimitClass.READ, RateLimitClass.of("GET", "/company"));
+        assertEquals(RateLimitClass.AUTH,
+                     RateLimitClass.of("POST", "/auth/signin"));
+    }
+}
@@ -0,0 +1,64 @@
+package zerobase.dividend.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import zerobase.dividend.exception.MemberException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHasherTest {
+    
+    @Test
+    void rejectsWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordHasher hasher = new PasswordHasher(
+                new BlockingEncoder(started, release), 1, 1);
+        
+        try {
+            // 스레드 하나가 실행 중이고 대기열 하나가 차면 그다음은 거절
+            CompletableFuture<String> running = hasher.encode("a");
+            started.await();
+            CompletableFuture<String> queued = hasher.encode("b");
+            CompletableFuture<String> rejected = hasher.encode("c");
+            
+            CompletionException e = assertThrows(CompletionException.class,
+                                                 rejected::join);
+            assertInstanceOf(
+                    MemberException.TooManyAuthRequestsException.class,
+                    e.getCause());
+            
+            release.countDown();
+            assertEquals("encoded-a", running.join());
+            assertEquals("encoded-b", queued.join());
+        } finally {
+            release.countDown();
+            hasher.shutdown();
+        }
+    }
+    
+    private record BlockingEncoder(CountDownLatch started,
+                                   CountDownLatch release)
+            implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "encoded-" + rawPassword;
+        }
+        
+        @Override
+        public boolean matches(CharSequence rawPassword,
+                               String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
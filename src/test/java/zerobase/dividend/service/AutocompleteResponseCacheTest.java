@@ -0,0 +1,49 @@
+package zerobase.dividend.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutocompleteResponseCacheTest {
+    
+    @Test
+    void onlyShortPrefixesAreCached() {
+        AutocompleteResponseCache cache = new AutocompleteResponseCache(2, 10);
+        
+        cache.put("a", 1, new byte[]{1});
+        cache.put("abc", 1, new byte[]{2});
+        
+        assertArrayEquals(new byte[]{1}, cache.get("a", 1));
+        assertNull(cache.get("abc", 1));
+    }
+    
+    @Test
+    void newVersionDropsOldResponses() {
+        AutocompleteResponseCache cache = new AutocompleteResponseCache(2, 10);
+        cache.put("a", 1, new byte[]{1});
+        
+        // 회사가 바뀐 뒤의 조회는 이전 응답을 쓰지 않음
+        assertNull(cache.get("a", 2));
+        
+        cache.put("b", 2, new byte[]{2});
+        assertEquals(1, cache.size());
+        
+        // 늦게 끝난 이전 버전의 조회 결과는 저장하지 않음
+        cache.put("a", 1, new byte[]{1});
+        assertNull(cache.get("a", 1));
+        assertEquals(1, cache.size());
+    }
+    
+    @Test
+    void leastRecentlyUsedIsEvicted() {
+        AutocompleteResponseCache cache = new AutocompleteResponseCache(2, 2);
+        cache.put("a", 1, new byte[]{1});
+        cache.put("b", 1, new byte[]{2});
+        cache.get("a", 1);
+        cache.put("c", 1, new byte[]{3});
+        
+        assertNotNull(cache.get("a", 1));
+        assertNull(cache.get("b", 1));
+        assertNotNull(cache.get("c", 1));
+    }
+}
@@ -0,0 +1,153 @@
+package zerobase.dividend.service;
+
+import org.junit.jupiter.api.Test;
+import zerobase.dividend.entity.CompanyEntity;
+import zerobase.dividend.entity.DividendEntity;
+import zerobase.dividend.event.DividendsInsertedEvent;
+import zerobase.dividend.model.Dividend;
+import zerobase.dividend.model.ScrapedResult;
+import zerobase.dividend.repository.DividendRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ColumnarDividendStoreTest {
+    
+    private final ColumnarDividendStore store =
+            new ColumnarDividendStore(mock(DividendRepository.class));
+    private final CompanyEntity company =
+            TestFixtures.company(1L, "MMM", "3M Company");
+    
+    @Test
+    void segmentGrowsAndKeepsPreviousRows() {
+        ColumnarDividendStore.Segment segment =
+                ColumnarDividendStore.Segment.append(
+                        null, new int[]{1, 2}, new long[]{10, 20},
+                        new long[]{1, 1}, new byte[]{2, 3});
+        assertEquals(16, segment.capacity());
+        
+        int[] days = IntStream.range(3, 23).toArray();
+        long[] amounts = IntStream.range(3, 23).mapToLong(e -> e * 10L)
+                .toArray();
+        long[] versions = new long[days.length];
+        Arrays.fill(versions, 2);
+        byte[] scales = new byte[days.length];
+        Arrays.fill(scales, (byte) 4);
+        ColumnarDividendStore.Segment grown =
+                ColumnarDividendStore.Segment.append(
+                        segment, days, amounts, versions, scales);
+        
+        // 기존 버퍼가 작으면 새 버퍼로 복사, 이전 Segment 는 그대로 읽을 수 있음
+        assertEquals(22, grown.size());
+        assertEquals(32, grown.capacity());
+        assertEquals(2, grown.maxVersion());
+        assertEquals(1, grown.epochDay(0));
+        assertEquals(20, grown.amount(1));
+        assertEquals(22, grown.epochDay(21));
+        assertEquals(220, grown.amount(21));
+        assertEquals(3, grown.scale(1));
+        assertEquals(4, grown.scale(21));
+        assertEquals(2, segment.size());
+        assertEquals(20, segment.amount(1));
+    }
+    
+    @Test
+    void fixedPointRoundTripKeepsScale() {
+        // DB 경로와 같은 문자열이 나와야 하므로 뒤쪽 0 도 유지
+        for (String amount : List.of("0.485", "1.51", "1.510", "12", "12.0",
+                                     "0.000001")) {
+            BigDecimal decimal = ColumnarDividendStore.toDecimal(amount);
+            assertEquals(amount, ColumnarDividendStore.toAmount(
+                    decimal.movePointRight(ColumnarDividendStore.SCALE)
+                            .longValueExact(), decimal.scale()));
+        }
+        
+        // 소수점 6자리를 넘거나, 그대로 되살릴 수 없거나, 숫자가 아니면 JPA 경로
+        assertNull(ColumnarDividendStore.toDecimal("0.0000001"));
+        assertNull(ColumnarDividendStore.toDecimal(" 1.51 "));
+        assertNull(ColumnarDividendStore.toDecimal("1.5E+2"));
+        assertNull(ColumnarDividendStore.toDecimal("abc"));
+        assertNull(ColumnarDividendStore.toDecimal(null));
+    }
+    
+    @Test
+    void servedAmountMatchesStoredString() {
+        store.handleDividendsInserted(new DividendsInsertedEvent(
+                company, List.of(dividend(1, "1.510", 1),
+                                 dividend(2, "0.5", 1))));
+        
+        assertEquals(List.of("1.510", "0.5"), store.getScrapedResult(
+                        company, 1).orElseThrow()
+                .getDividendEntities().stream()
+                .map(Dividend::getDividend)
+                .toList());
+    }
+    
+    @Test
+    void appendAfterReplaceDoesNotDuplicateRows() {
+        store.handleDividendsInserted(new DividendsInsertedEvent(
+                company, List.of(dividend(1, "0.5", 1))));
+        
+        // version 2 커밋 직후, 이벤트 전에 캐시 미스 조회가 DB 에서 읽어 교체
+        List<DividendEntity> saved = List.of(dividend(2, "0.6", 2),
+                                             dividend(3, "0.7", 2));
+        store.replace(company.getId(), List.of(dividend(1, "0.5", 1),
+                                               saved.get(0), saved.get(1)));
+        
+        // 같은 저장의 이벤트가 늦게 도착
+        store.handleDividendsInserted(
+                new DividendsInsertedEvent(company, saved));
+        
+        ScrapedResult result = store.getScrapedResult(company, 2).orElseThrow();
+        assertEquals(3, result.getDividendEntities().size());
+        
+        // 이후의 새 저장은 그대로 추가
+        store.handleDividendsInserted(new DividendsInsertedEvent(
+                company, List.of(dividend(4, "0.8", 3))));
+        assertEquals(4, store.getScrapedResult(company, 3).orElseThrow()
+                .getDividendEntities().size());
+    }
+    
+    @Test
+    void staleSegmentIsNotServedUntilReplaced() {
+        store.handleDividendsInserted(new DividendsInsertedEvent(
+                company, List.of(dividend(1, "0.5", 1))));
+        assertTrue(store.getScrapedResult(company, 1).isPresent());
+        
+        // 다른 노드가 version 2 를 저장
+        assertTrue(store.getScrapedResult(company, 2).isEmpty());
+        
+        store.replace(company.getId(), List.of(dividend(2, "0.6", 2),
+                                               dividend(1, "0.5", 1)));
+        ScrapedResult result = store.getScrapedResult(company, 2).orElseThrow();
+        assertEquals(2, result.getDividendEntities().size());
+        assertEquals("0.5", result.getDividendEntities().get(0).getDividend());
+        assertEquals(2L, result.getVersion());
+    }
+    
+    @Test
+    void replaceKeepsNewerSegment() {
+        store.handleDividendsInserted(new DividendsInsertedEvent(
+                company, List.of(dividend(1, "0.5", 1),
+                                 dividend(2, "0.6", 2))));
+        
+        // 이벤트보다 먼저 시작한 DB 조회의 결과가 늦게 도착
+        store.replace(company.getId(), List.of(dividend(1, "0.5", 1)));
+        
+        assertEquals(2, store.getScrapedResult(company, 2).orElseThrow()
+                .getDividendEntities().size());
+    }
+    
+    private static DividendEntity dividend(long id, String amount,
+                                           long version) {
+        return TestFixtures.dividend(
+                id, 1L, LocalDateTime.of(2024, 1, 1, 0, 0).plusMonths(id),
+                amount, version);
+    }
+}
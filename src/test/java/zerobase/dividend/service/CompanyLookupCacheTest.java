@@ -0,0 +1,98 @@
+package zerobase.dividend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import zerobase.dividend.entity.CompanyEntity;
+import zerobase.dividend.repository.CompanyRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static zerobase.dividend.service.TestFixtures.company;
+
+class CompanyLookupCacheTest {
+    
+    private final CompanyRepository companyRepository =
+            Mockito.mock(CompanyRepository.class);
+    private final CompanyLookupCache cache =
+            new CompanyLookupCache(companyRepository);
+    
+    // DB 에 저장된 회사
+    private final List<CompanyEntity> stored = new ArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        when(companyRepository.findAll()).thenAnswer(
+                invocation -> new ArrayList<>(stored));
+        when(companyRepository.findCatalogStamp()).thenAnswer(
+                invocation -> stamp());
+        when(companyRepository.findByTicker(Mockito.anyString()))
+                .thenReturn(Optional.empty());
+    }
+    
+    @Test
+    void unchangedTableIsNotReloaded() {
+        stored.add(company(1L, "MMM"));
+        cache.warmUp();
+        
+        cache.checkForChanges();
+        cache.checkForChanges();
+        
+        verify(companyRepository, times(1)).findAll();
+    }
+    
+    @Test
+    void companyDeletedOnAnotherNodeIsDropped() {
+        stored.add(company(1L, "MMM"));
+        stored.add(company(2L, "IBM"));
+        cache.warmUp();
+        assertTrue(cache.findByTicker("MMM").isPresent());
+        
+        // 다른 노드에서 삭제되어 이 노드에는 삭제 이벤트가 없음
+        stored.removeFirst();
+        cache.checkForChanges();
+        
+        assertTrue(cache.findByTicker("MMM").isEmpty());
+        assertTrue(cache.findById(1L).isEmpty());
+        assertEquals(1, cache.getStats().size());
+    }
+    
+    @Test
+    void deleteAndInsertWithSameCountIsDetected() {
+        stored.add(company(1L, "MMM"));
+        cache.warmUp();
+        
+        // 회사 수는 그대로지만 최대 id 가 바뀜
+        stored.clear();
+        stored.add(company(2L, "IBM"));
+        cache.checkForChanges();
+        
+        assertTrue(cache.findByTicker("MMM").isEmpty());
+        assertEquals(2L, cache.findByTicker("IBM").orElseThrow().getId());
+    }
+    
+    private CompanyRepository.CatalogStamp stamp() {
+        long maxId = stored.stream()
+                .mapToLong(CompanyEntity::getId)
+                .max()
+                .orElse(0L);
+        return new CompanyRepository.CatalogStamp() {
+            @Override
+            public Long getCompanies() {
+                return (long) stored.size();
+            }
+            
+            @Override
+            public Long getMaxId() {
+                return stored.isEmpty() ? null : maxId;
+            }
+        };
+    }
+}
@@ -0,0 +1,73 @@
+package zerobase.dividend.service;
+
+import org.junit.jupiter.api.Test;
+import zerobase.dividend.entity.CompanyEntity;
+import zerobase.dividend.entity.DividendMonthlyEntity;
+import zerobase.dividend.model.Company;
+import zerobase.dividend.model.DividendAnalytics;
+import zerobase.dividend.type.Cadence;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DividendAnalyticsServiceTest {
+    
+    private static final CompanyEntity COMPANY =
+            new CompanyEntity(new Company("MMM", "3M Company"));
+    
+    @Test
+    void summarizeQuarterlyPayer() {
+        // 2019년 하반기부터 분기마다 지급, 매년 0.10 씩 증가
+        List<DividendMonthlyEntity> months = new ArrayList<>();
+        months.add(month(201909, "1.00"));
+        months.add(month(201912, "1.00"));
+        for (int year = 2020; year <= 2024; year++) {
+            BigDecimal amount = new BigDecimal("1.00")
+                    .add(new BigDecimal("0.10").multiply(
+                            BigDecimal.valueOf(year - 2019)));
+            for (int month = 3; month <= 12; month += 3) {
+                months.add(month(year * 100 + month, amount.toPlainString()));
+            }
+        }
+        months.add(month(202503, "1.60"));
+        
+        DividendAnalytics result = DividendAnalyticsService.summarize(
+                COMPANY, months, YearMonth.of(2025, 4));
+        
+        // 2024-05 ~ 2025-04: 2024년 6, 9, 12월 + 2025년 3월
+        assertEquals(0, new BigDecimal("6.10").compareTo(result.getTtm()));
+        assertEquals(4, result.getTtmPayments());
+        assertEquals(Cadence.QUARTERLY, result.getFrequency());
+        assertEquals(0, new BigDecimal("4.40").compareTo(
+                result.getAnnualTotals().get(2020)));
+        
+        // 2020 (4.40) -> 2024 (6.00), 4년
+        assertEquals(0.0806, result.getCagr(), 1e-4);
+    }
+    
+    @Test
+    void cagrNeedsTwoCompleteYears() {
+        List<DividendMonthlyEntity> months = List.of(
+                month(202306, "0.50"),
+                month(202406, "0.60"),
+                month(202503, "0.70"));
+        
+        DividendAnalytics result = DividendAnalyticsService.summarize(
+                COMPANY, months, YearMonth.of(2025, 4));
+        
+        assertNull(result.getCagr());
+        assertEquals(Cadence.SEMIANNUAL, result.getFrequency());
+    }
+    
+    private static DividendMonthlyEntity month(int payMonth, String amount) {
+        DividendMonthlyEntity entity =
+                new DividendMonthlyEntity(1L, payMonth);
+        entity.add(new BigDecimal(amount));
+        return entity;
+    }
+}
@@ -0,0 +1,140 @@
+package zerobase.dividend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+import zerobase.dividend.entity.DividendEntity;
+import zerobase.dividend.event.CompanyDeletedEvent;
+import zerobase.dividend.model.Company;
+import zerobase.dividend.model.DividendEvent;
+import zerobase.dividend.repository.CompanyRepository;
+import zerobase.dividend.repository.DividendRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+class DividendCalendarIndexTest {
+    
+    private final CompanyLookupCache companyLookupCache =
+            new CompanyLookupCache(Mockito.mock(CompanyRepository.class));
+    private final DividendRepository dividendRepository =
+            Mockito.mock(DividendRepository.class);
+    private final DividendCalendarIndex index = new DividendCalendarIndex(
+            dividendRepository, companyLookupCache, 2);
+    
+    // DB 에 저장된 배당금 (id 순)
+    private final List<DividendEntity> stored = new ArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        when(dividendRepository.findAllByIdGreaterThanOrderByIdAsc(
+                anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    long afterId = invocation.getArgument(0);
+                    Pageable pageable = invocation.getArgument(1);
+                    return stored.stream()
+                            .filter(d -> d.getId() > afterId)
+                            .limit(pageable.getPageSize())
+                            .toList();
+                });
+    }
+    
+    @Test
+    void findBetweenIsInclusiveAndSortedByDate() {
+        company(1L, "MMM", "3M Company");
+        company(2L, "IBM", "IBM");
+        index.add(dividend(10L, 1L, "2024-02-15"));
+        index.add(dividend(11L, 2L, "2024-02-08"));
+        index.add(dividend(12L, 1L, "2024-05-17"));
+        index.add(dividend(13L, 2L, "2024-01-31"));
+        
+        List<DividendEvent> result = index.findBetween(
+                LocalDate.parse("2024-02-08"), LocalDate.parse("2024-05-17"),
+                10);
+        
+        assertEquals(List.of(11L, 10L, 12L),
+                     result.stream().map(DividendEvent::getId).toList());
+        assertEquals("IBM", result.getFirst().getTicker());
+        assertEquals(2, index.findBetween(LocalDate.parse("2024-01-01"),
+                                          LocalDate.parse("2024-12-31"),
+                                          2).size());
+    }
+    
+    @Test
+    void deletedCompanyIsRemovedFromIndex() {
+        company(1L, "MMM", "3M Company");
+        company(2L, "IBM", "IBM");
+        index.add(dividend(10L, 1L, "2024-02-15"));
+        index.add(dividend(11L, 2L, "2024-02-08"));
+        
+        index.handleCompanyDeleted(new CompanyDeletedEvent(
+                List.of(1L), List.of(new Company("MMM", "3M Company"))));
+        
+        assertEquals(1, index.size());
+        assertEquals(List.of(11L), index.findBetween(
+                        LocalDate.parse("2024-01-01"),
+                        LocalDate.parse("2024-12-31"), 10).stream()
+                .map(DividendEvent::getId)
+                .toList());
+    }
+    
+    @Test
+    void syncPicksUpRowsSavedByOtherNodes() {
+        company(1L, "MMM", "3M Company");
+        stored.add(dividend(10L, 1L, "2024-02-15"));
+        stored.add(dividend(11L, 1L, "2024-05-17"));
+        stored.add(dividend(12L, 1L, "2024-08-16"));
+        index.build();
+        assertEquals(3, index.size());
+        assertEquals(12L, index.getWatermark());
+        
+        // 다른 노드가 저장한 행은 이벤트 없이 DB 에만 있음
+        stored.add(dividend(13L, 1L, "2024-11-15"));
+        stored.add(dividend(14L, 1L, "2025-02-14"));
+        index.sync();
+        
+        assertEquals(5, index.size());
+        assertEquals(14L, index.getWatermark());
+        assertEquals(List.of(13L, 14L), index.findBetween(
+                        LocalDate.parse("2024-09-01"),
+                        LocalDate.parse("2025-12-31"), 10).stream()
+                .map(DividendEvent::getId)
+                .toList());
+    }
+    
+    @Test
+    void buildDropsRowsDeletedByOtherNodes() {
+        company(1L, "MMM", "3M Company");
+        company(2L, "IBM", "IBM");
+        stored.add(dividend(10L, 1L, "2024-02-15"));
+        stored.add(dividend(11L, 2L, "2024-02-08"));
+        stored.add(dividend(12L, 1L, "2024-05-17"));
+        index.build();
+        assertEquals(3, index.size());
+        
+        // 다른 노드에서 회사 1 삭제
+        stored.removeIf(d -> d.getCompanyId() == 1L);
+        index.build();
+        
+        assertEquals(1, index.size());
+        assertEquals(11L, index.getWatermark());
+    }
+    
+    private void company(long id, String ticker, String name) {
+        companyLookupCache.put(TestFixtures.company(id, ticker, name));
+    }
+    
+    private static DividendEntity dividend(long id, long companyId,
+                                           String date) {
+        return TestFixtures.dividend(
+                id, companyId, LocalDate.parse(date).atStartOfDay(), "0.50",
+                0);
+    }
+}
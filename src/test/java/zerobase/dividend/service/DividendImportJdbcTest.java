@@ -0,0 +1,149 @@
+package zerobase.dividend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+import zerobase.dividend.model.DividendImportResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// 내장 H2 에서 MERGE_COMPANY / MERGE_DIVIDEND 배치 경로 확인
+class DividendImportJdbcTest {
+    
+    private static final String HEADER = "ticker,name,date,dividend";
+    
+    private final EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+    
+    private final CompanyService companyService = mock(CompanyService.class);
+    private final ScrapTaskService scrapTaskService =
+            mock(ScrapTaskService.class);
+    private final DividendCalendarIndex calendarIndex =
+            mock(DividendCalendarIndex.class);
+    
+    DividendImportJdbcTest() {
+        // JPA 가 만드는 스키마와 같은 컬럼, 잘못된 값의 저장 실패를 만들려고 dividend 길이만 줄임
+        jdbcTemplate.execute("""
+                CREATE TABLE company (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    ticker VARCHAR(255) UNIQUE,
+                    name VARCHAR(255),
+                    dividend_version BIGINT NOT NULL)
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE dividend (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    company_id BIGINT,
+                    date TIMESTAMP,
+                    dividend VARCHAR(8),
+                    version BIGINT NOT NULL,
+                    UNIQUE (company_id, date))
+                """);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+    
+    @Test
+    void mergeInsertsSkipsDuplicatesAndBumpsVersion() throws IOException {
+        DividendImportService service = service(2);
+        
+        DividendImportResult first = service.importCsv(csv(
+                "MMM,3M Company,2024-05-17,0.70",
+                "MMM,3M Company,2024-02-16,1.51",
+                "KO,Coca-Cola,2024-06-14,0.485"));
+        assertEquals(2, first.getCompaniesCreated());
+        assertEquals(3, first.getDividendsInserted());
+        assertEquals(0, first.getDuplicates());
+        assertEquals(1, version("MMM"));
+        
+        // 이미 있는 (회사, 날짜) 는 건너뛰고 새 행만 다음 version 으로 저장
+        DividendImportResult second = service.importCsv(csv(
+                "MMM,3M Company,2024-05-17,0.70",
+                "MMM,3M Company,2024-08-16,0.70"));
+        assertEquals(0, second.getCompaniesCreated());
+        assertEquals(1, second.getDividendsInserted());
+        assertEquals(1, second.getDuplicates());
+        assertEquals(2, version("MMM"));
+        assertEquals(1, version("KO"));
+        assertEquals(2L, jdbcTemplate.queryForObject(
+                "SELECT version FROM dividend WHERE date = '2024-08-16'",
+                Long.class));
+        assertEquals(4, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM dividend", Integer.class));
+    }
+    
+    @Test
+    void committedChunksAreRefreshedWhenLaterChunkFails() {
+        DividendImportService service = service(1);
+        
+        assertThrows(DataAccessException.class, () -> service.importCsv(csv(
+                "MMM,3M Company,2024-05-17,0.70",
+                "BAD,Bad Company,2024-05-17,123456789.123")));
+        
+        // 첫 chunk 는 커밋되어 남아 있고, 롤백된 회사는 갱신 대상이 아님
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM company", Integer.class));
+        verify(companyService).addAutocompleteKeyword("3M Company");
+        verify(companyService, never()).addAutocompleteKeyword("Bad Company");
+        verify(scrapTaskService, times(1)).reschedule(eq(companyId("MMM")),
+                                                      any());
+        verify(calendarIndex).build();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private DividendImportService service(int chunkSize) {
+        return new DividendImportService(
+                jdbcTemplate,
+                new NamedParameterJdbcTemplate(jdbcTemplate),
+                new TransactionTemplate(
+                        new DataSourceTransactionManager(database)),
+                companyService,
+                mock(CompanyLookupCache.class),
+                scrapTaskService,
+                mock(DividendAnalyticsService.class),
+                calendarIndex,
+                mock(ObjectProvider.class),
+                mock(CacheManager.class),
+                2, chunkSize, 10);
+    }
+    
+    private long version(String ticker) {
+        return jdbcTemplate.queryForObject(
+                "SELECT dividend_version FROM company WHERE ticker = ?",
+                Long.class, ticker);
+    }
+    
+    private long companyId(String ticker) {
+        return jdbcTemplate.queryForObject(
+                "SELECT id FROM company WHERE ticker = ?", Long.class, ticker);
+    }
+    
+    private static InputStream csv(String... lines) {
+        return new ByteArrayInputStream(
+                (HEADER + "\n" + String.join("\n", lines))
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+}
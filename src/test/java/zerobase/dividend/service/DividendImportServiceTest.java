@@ -0,0 +1,56 @@
+package zerobase.dividend.service;
+
+import org.junit.jupiter.api.Test;
+import zerobase.dividend.exception.ImportException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DividendImportServiceTest {
+    
+    @Test
+    void parseValidAndInvalidRows() {
+        // 헤더 순서는 파일마다 다를 수 있음
+        int[] columns = DividendImportService.columnIndexes(
+                "date,ticker,dividend,name");
+        
+        DividendImportService.ParsedChunk chunk = DividendImportService.parse(
+                columns,
+                List.of("2024-05-17,mmm,0.70,3M Company",
+                        "2024-06-14,KO,0.485,\"Coca-Cola Co, The\"",
+                        "",
+                        "2024-13-01,KO,0.485,Coca-Cola",
+                        "2024-06-14,KO,abc,Coca-Cola",
+                        "2024-06-14,KO,-1,Coca-Cola",
+                        "2024-06-14,,0.1,Nothing",
+                        "2024-06-14,KO"),
+                2, 3);
+        
+        assertEquals(7, chunk.lines());
+        assertEquals(5, chunk.invalid());
+        assertEquals(3, chunk.errors().size());
+        assertTrue(chunk.errors().get(0).startsWith("5: "));
+        
+        assertEquals(2, chunk.rows().size());
+        DividendImportService.Row first = chunk.rows().get(0);
+        assertEquals("MMM", first.ticker());
+        assertEquals(LocalDateTime.of(2024, 5, 17, 0, 0), first.date());
+        assertEquals("0.70", first.dividend());
+        assertEquals("Coca-Cola Co, The", chunk.rows().get(1).name());
+    }
+    
+    @Test
+    void splitQuotedFields() {
+        assertEquals(List.of("a", "b \"c\"", ""),
+                     DividendImportService.split("a,\"b \"\"c\"\"\","));
+    }
+    
+    @Test
+    void missingColumnIsRejected() {
+        assertThrows(ImportException.InvalidImportFileException.class,
+                     () -> DividendImportService.columnIndexes(
+                             "ticker,name,date"));
+    }
+}
@@ -0,0 +1,112 @@
+package zerobase.dividend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import zerobase.dividend.entity.CompanyEntity;
+import zerobase.dividend.entity.DividendEntity;
+import zerobase.dividend.event.DividendsInsertedEvent;
+import zerobase.dividend.model.Dividend;
+import zerobase.dividend.repository.CompanyRepository;
+import zerobase.dividend.repository.DividendRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DividendServiceTest {
+    
+    private final CompanyRepository companyRepository =
+            Mockito.mock(CompanyRepository.class);
+    private final DividendRepository dividendRepository =
+            Mockito.mock(DividendRepository.class);
+    private final ApplicationEventPublisher eventPublisher =
+            Mockito.mock(ApplicationEventPublisher.class);
+    private final DividendService dividendService = new DividendService(
+            companyRepository, dividendRepository, eventPublisher);
+    
+    private final CompanyEntity company =
+            TestFixtures.company(1L, "MMM", "3M Company");
+    
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(company, "dividendVersion", 6L);
+        when(companyRepository.findByIdForUpdate(1L))
+                .thenReturn(Optional.of(company));
+        when(dividendRepository.saveAll(anyList())).thenAnswer(
+                invocation -> invocation.getArgument(0));
+    }
+    
+    @Test
+    void newDividendsAreStampedWithTheBumpedVersion() {
+        when(dividendRepository.findAllDatesByCompanyId(1L))
+                .thenReturn(List.of(date("2023-11-15")));
+        
+        List<DividendEntity> saved = dividendService.saveNewDividends(
+                company, List.of(dividend("2024-02-16", "1.51"),
+                                 dividend("2023-11-15", "1.48"),
+                                 dividend("2024-02-16", "1.51")));
+        
+        // 저장된 날짜와 입력 안의 중복은 빠짐
+        assertEquals(1, saved.size());
+        assertEquals(date("2024-02-16"), saved.getFirst().getDate());
+        assertEquals(7L, saved.getFirst().getVersion());
+        assertEquals(7L, company.getDividendVersion());
+        
+        ArgumentCaptor<DividendsInsertedEvent> event =
+                ArgumentCaptor.forClass(DividendsInsertedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(saved, event.getValue().dividends());
+    }
+    
+    @Test
+    void companyIsLockedBeforeDatesAreRead() {
+        when(dividendRepository.findAllDatesByCompanyId(1L))
+                .thenReturn(List.of());
+        
+        dividendService.saveNewDividends(
+                company, List.of(dividend("2024-02-16", "1.51")));
+        
+        InOrder order = inOrder(companyRepository, dividendRepository);
+        order.verify(companyRepository).findByIdForUpdate(1L);
+        order.verify(dividendRepository).findAllDatesByCompanyId(1L);
+        order.verify(dividendRepository).saveAll(anyList());
+    }
+    
+    @Test
+    void nothingIsSavedWhenAllDatesExist() {
+        when(dividendRepository.findAllDatesByCompanyId(1L))
+                .thenReturn(List.of(date("2024-02-16")));
+        
+        List<DividendEntity> saved = dividendService.saveNewDividends(
+                company, List.of(dividend("2024-02-16", "1.51")));
+        
+        assertTrue(saved.isEmpty());
+        // 저장한 배당금이 없으면 version 도 그대로
+        assertEquals(6L, company.getDividendVersion());
+        verify(dividendRepository, never()).saveAll(anyList());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+    
+    private static LocalDateTime date(String date) {
+        return LocalDate.parse(date).atStartOfDay();
+    }
+    
+    private static Dividend dividend(String date, String amount) {
+        return new Dividend(date(date), amount);
+    }
+}
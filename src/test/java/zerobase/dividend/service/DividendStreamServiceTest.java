@@ -0,0 +1,188 @@
+package zerobase.dividend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import zerobase.dividend.entity.CompanyEntity;
+import zerobase.dividend.entity.DividendEntity;
+import zerobase.dividend.event.DividendsInsertedEvent;
+import zerobase.dividend.repository.CompanyRepository;
+import zerobase.dividend.repository.DividendRepository;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static zerobase.dividend.service.TestFixtures.company;
+
+class DividendStreamServiceTest {
+    
+    private static final Pattern ID = Pattern.compile("id:(\\d+)");
+    
+    private final CompanyLookupCache companyLookupCache =
+            mock(CompanyLookupCache.class);
+    private final DividendRepository dividendRepository =
+            mock(DividendRepository.class);
+    private final List<RecordingEmitter> emitters =
+            new CopyOnWriteArrayList<>();
+    
+    // 구독자 큐 2개, 전송 스레드 2개
+    private final DividendStreamService service = new DividendStreamService(
+            companyLookupCache, mock(CompanyRepository.class),
+            dividendRepository, 60_000, 100, 2, 2) {
+        @Override
+        SseEmitter newEmitter() {
+            RecordingEmitter emitter = new RecordingEmitter();
+            emitters.add(emitter);
+            return emitter;
+        }
+    };
+    
+    private final CompanyEntity mmm = company(1L, "mmm");
+    private final CompanyEntity ko = company(2L, "KO");
+    
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+    
+    @Test
+    void subscribersReceiveOnlyTheirTickers() {
+        RecordingEmitter mmmOnly = subscribe(List.of("Mmm"), null);
+        RecordingEmitter everything = subscribe(null, null);
+        RecordingEmitter koOnly = subscribe(List.of("KO"), null);
+        
+        // 저장할 때 대문자로 바뀐 ticker 와 소문자로 요청한 필터가 맞아야 함
+        assertEquals("MMM", mmm.getTicker());
+        publish(mmm, 10, 11);
+        publish(ko, 12);
+        
+        await(() -> everything.ids().size() == 3);
+        await(() -> mmmOnly.ids().size() == 2);
+        await(() -> koOnly.ids().size() == 1);
+        assertEquals(List.of(10L, 11L), mmmOnly.ids());
+        assertEquals(List.of(10L, 11L, 12L), everything.ids());
+        assertEquals(List.of(12L), koOnly.ids());
+    }
+    
+    @Test
+    void replayFromLastEventIdWithoutDuplicates() {
+        when(companyLookupCache.findByTicker("MMM"))
+                .thenReturn(Optional.of(mmm));
+        when(dividendRepository
+                     .findAllByIdGreaterThanAndCompanyIdInOrderByIdAsc(
+                             eq(5L), any(), any()))
+                .thenReturn(List.of(dividend(6, mmm), dividend(7, mmm)));
+        
+        RecordingEmitter emitter = subscribe(List.of("MMM"), 5L);
+        
+        // 재전송과 겹치는 실시간 배당금은 한 번만 전송
+        publish(mmm, 7, 8);
+        
+        await(() -> emitter.ids().size() == 3);
+        assertEquals(List.of(6L, 7L, 8L), emitter.ids());
+    }
+    
+    @Test
+    void slowSubscriberDoesNotBlockOthers() {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = subscribe(null, null);
+        slow.block = release;
+        RecordingEmitter fast = subscribe(null, null);
+        
+        for (long id = 1; id <= 5; id++) {
+            publish(mmm, id);
+            int received = (int) id;
+            await(() -> fast.ids().size() == received);
+        }
+        
+        // 큐(2)를 넘긴 느린 구독자는 연결을 끊어서 재연결하게 함
+        await(() -> slow.completed);
+        release.countDown();
+    }
+    
+    private RecordingEmitter subscribe(List<String> tickers, Long lastEventId) {
+        SseEmitter emitter = service.subscribe(tickers, lastEventId);
+        return (RecordingEmitter) emitter;
+    }
+    
+    private void publish(CompanyEntity company, long... ids) {
+        List<DividendEntity> dividends = new ArrayList<>();
+        for (long id : ids) {
+            dividends.add(dividend(id, company));
+        }
+        service.handleDividendsInserted(
+                new DividendsInsertedEvent(company, dividends));
+    }
+    
+    private static DividendEntity dividend(long id, CompanyEntity company) {
+        return TestFixtures.dividend(
+                id, company.getId(),
+                LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(id), "0.5", 1);
+    }
+    
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("timed out");
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("interrupted");
+            }
+        }
+    }
+    
+    // 서블릿 없이 보낸 이벤트의 id 만 기록
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<Long> ids = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch block;
+        private volatile boolean completed;
+        
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (block != null) {
+                try {
+                    block.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            for (DataWithMediaType data : builder.build()) {
+                Matcher matcher = ID.matcher(String.valueOf(data.getData()));
+                if (matcher.find()) {
+                    ids.add(Long.parseLong(matcher.group(1)));
+                }
+            }
+        }
+        
+        @Override
+        public void complete() {
+            completed = true;
+        }
+        
+        @Override
+        public void completeWithError(Throwable ex) {
+            completed = true;
+        }
+        
+        private List<Long> ids() {
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package zerobase.dividend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+import zerobase.dividend.entity.CompanyEntity;
+import zerobase.dividend.entity.DividendEntity;
+import zerobase.dividend.model.Company;
+import zerobase.dividend.model.Dividend;
+import zerobase.dividend.model.ScrapedResult;
+import zerobase.dividend.repository.CompanyRepository;
+import zerobase.dividend.repository.DividendRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class FinanceServiceTest {
+    
+    @SuppressWarnings("unchecked")
+    private final FinanceService financeService = new FinanceService(
+            new CompanyLookupCache(Mockito.mock(CompanyRepository.class)),
+            Mockito.mock(DividendRepository.class), new SimpleMeterRegistry(),
+            Mockito.mock(ObjectProvider.class));
+    
+    @Test
+    void resultVersionIsTheLargestDividendVersion() {
+        CompanyEntity company =
+                new CompanyEntity(new Company("MMM", "3M Company"));
+        
+        ScrapedResult result = FinanceService.toScrapedResult(company, List.of(
+                entity("2023-11-15", "1.48", 3),
+                entity("2024-02-16", "1.51", 5),
+                entity("2023-08-17", "1.48", 1)));
+        
+        assertEquals(5L, result.getVersion());
+        assertEquals(List.of(3L, 5L, 1L), result.getDividendEntities()
+                .stream()
+                .map(Dividend::getVersion)
+                .toList());
+    }
+    
+    @Test
+    void deltaKeepsDividendsNewerThanSince() {
+        ScrapedResult result = new ScrapedResult(
+                new Company("MMM", "3M Company"),
+                List.of(dividend("2023-08-17", 1L), dividend("2023-11-15", 3L),
+                        dividend("2024-02-16", 5L)),
+                5L);
+        
+        ScrapedResult delta = financeService.getDividendDelta(result, 3L);
+        
+        assertEquals(List.of(5L), delta.getDividendEntities().stream()
+                .map(Dividend::getVersion)
+                .toList());
+        assertEquals(5L, delta.getVersion());
+        assertEquals(result.getCompany(), delta.getCompany());
+        assertEquals(3, financeService.getDividendDelta(result, 0L)
+                .getDividendEntities().size());
+        assertEquals(0, financeService.getDividendDelta(result, 5L)
+                .getDividendEntities().size());
+    }
+    
+    @Test
+    void deltaOfOlderCacheEntryReturnsEverything() throws Exception {
+        // version 을 저장하기 전에 캐시된 결과 (배당금/결과 모두 version 없음)
+        ScrapedResult cached = new ObjectMapper().readValue("""
+                {"company":{"ticker":"MMM","name":"3M Company"},
+                 "dividendEntities":[
+                   {"date":"2023-11-15T00:00:00","dividend":"1.48"},
+                   {"date":"2024-02-16T00:00:00","dividend":"1.51"}]}
+                """, ScrapedResult.class);
+        
+        ScrapedResult delta = financeService.getDividendDelta(cached, 3L);
+        
+        assertEquals(cached.getDividendEntities(), delta.getDividendEntities());
+        assertNull(delta.getVersion());
+    }
+    
+    private static Dividend dividend(String date, long version) {
+        return new Dividend(LocalDate.parse(date).atStartOfDay(), "1.00",
+                            version);
+    }
+    
+    private static DividendEntity entity(String date, String amount,
+                                         long version) {
+        return new DividendEntity(1L, new Dividend(
+                LocalDate.parse(date).atStartOfDay(), amount), version);
+    }
+}
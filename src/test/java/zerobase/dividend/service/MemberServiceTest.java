@@ -0,0 +1,56 @@
+package zerobase.dividend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import zerobase.dividend.entity.MemberEntity;
+import zerobase.dividend.model.Auth;
+import zerobase.dividend.repository.MemberRepository;
+import zerobase.dividend.security.PasswordHasher;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class MemberServiceTest {
+    
+    private final MemberRepository memberRepository =
+            Mockito.mock(MemberRepository.class);
+    private final PasswordHasher passwordHasher = new PasswordHasher(
+            NoOpPasswordEncoder.getInstance(), 1, 1);
+    private final ExecutorService storeExecutor =
+            Executors.newSingleThreadExecutor(r -> new Thread(r, "store"));
+    private final MemberService memberService = new MemberService(
+            passwordHasher, memberRepository, storeExecutor);
+    
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+        storeExecutor.shutdown();
+    }
+    
+    @Test
+    void memberIsSavedOutsideHashingThread() {
+        AtomicReference<String> savedOn = new AtomicReference<>();
+        when(memberRepository.save(any())).thenAnswer(invocation -> {
+            savedOn.set(Thread.currentThread().getName());
+            return invocation.getArgument(0);
+        });
+        
+        Auth.SignUp request = new Auth.SignUp();
+        request.setUsername("user");
+        request.setPassword("password");
+        request.setRoles(List.of("ROLE_READ"));
+        MemberEntity saved = memberService.register(request).join();
+        
+        // 해싱 스레드는 BCrypt 만 실행
+        assertEquals("store", savedOn.get());
+        assertEquals("password", saved.getPassword());
+    }
+}
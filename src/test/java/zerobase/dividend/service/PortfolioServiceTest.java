@@ -0,0 +1,190 @@
+package zerobase.dividend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import zerobase.dividend.entity.DividendMonthlyEntity;
+import zerobase.dividend.exception.PortfolioException;
+import zerobase.dividend.model.Portfolio;
+import zerobase.dividend.repository.CompanyRepository;
+import zerobase.dividend.repository.DividendMonthlyRepository;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static zerobase.dividend.service.TestFixtures.company;
+
+class PortfolioServiceTest {
+    private static final YearMonth NOW = YearMonth.of(2024, 6);
+    
+    private final CompanyRepository companyRepository =
+            Mockito.mock(CompanyRepository.class);
+    private final DividendMonthlyRepository dividendMonthlyRepository =
+            Mockito.mock(DividendMonthlyRepository.class);
+    private final CompanyLookupCache companyLookupCache =
+            new CompanyLookupCache(companyRepository);
+    
+    private final List<DividendMonthlyEntity> months = new ArrayList<>();
+    
+    private final PortfolioService portfolioService = service(2, 50);
+    
+    @AfterEach
+    void tearDown() {
+        portfolioService.shutdown();
+    }
+    
+    @Test
+    void projectsLastTwelveMonthsPerShare() {
+        companyLookupCache.put(company(1L, "MMM"));
+        companyLookupCache.put(company(2L, "IBM"));
+        month(1L, 202403, "1.50");
+        month(1L, 202312, "1.50");
+        month(2L, 202406, "2.00");
+        
+        Portfolio.Income income = portfolioService.project(
+                request(position("mmm", "10"), position(" MMM ", "5"),
+                        position("IBM", "2"), position("NONE", "1")), NOW);
+        
+        // MMM 15주 * 3.00 + IBM 2주 * 2.00
+        assertEquals(new BigDecimal("49.0000"), income.getAnnualIncome());
+        assertEquals(new BigDecimal("22.5000"),
+                     income.getMonthlyIncome().get(3));
+        assertEquals(new BigDecimal("22.5000"),
+                     income.getMonthlyIncome().get(12));
+        assertEquals(new BigDecimal("4.0000"),
+                     income.getMonthlyIncome().get(6));
+        assertEquals(new BigDecimal("30.0000"),
+                     income.getPositions().getFirst().getAnnualIncome());
+        assertEquals(List.of("NONE"), income.getUnknownTickers());
+    }
+    
+    @Test
+    void futurePayMonthIsNotAddedToLastYearsBucket() {
+        companyLookupCache.put(company(1L, "MMM"));
+        month(1L, 202309, "1.00");
+        // 선언만 된 다음 분기 배당
+        month(1L, 202409, "1.00");
+        
+        Portfolio.Income income = portfolioService.project(
+                request(position("MMM", "1")), NOW);
+        
+        assertEquals(new BigDecimal("1.0000"), income.getAnnualIncome());
+        assertEquals(new BigDecimal("1.0000"),
+                     income.getMonthlyIncome().get(9));
+        verify(dividendMonthlyRepository).findAllByCompanyIdInAndPayMonthBetween(
+                anyCollection(), eq(202307), eq(202406));
+    }
+    
+    @Test
+    void cacheMissesAreLoadedInOneQuery() {
+        companyLookupCache.put(company(1L, "MMM"));
+        when(companyRepository.findAllByTickerIn(anyCollection()))
+                .thenReturn(List.of(company(2L, "IBM"), company(3L, "KO")));
+        
+        Portfolio.Income income = portfolioService.project(
+                request(position("MMM", "1"), position("IBM", "1"),
+                        position("KO", "1"), position("NONE", "1"),
+                        position("ko", "1")), NOW);
+        
+        assertEquals(List.of("NONE"), income.getUnknownTickers());
+        verify(companyRepository, times(1)).findAllByTickerIn(
+                List.of("IBM", "KO", "NONE"));
+        verify(companyRepository, never()).findByTicker(Mockito.anyString());
+        
+        // 두 번째 요청부터는 캐시에서 조회
+        portfolioService.project(request(position("IBM", "1")), NOW);
+        verify(companyRepository, times(1)).findAllByTickerIn(anyCollection());
+    }
+    
+    @Test
+    void parallelPathMatchesSequential() {
+        for (long id = 1; id <= 20; id++) {
+            companyLookupCache.put(company(id, "T" + id));
+            month(id, 202401, "0.25");
+        }
+        List<Portfolio.Position> positions = new ArrayList<>();
+        for (int i = 1; i <= 40; i++) {
+            positions.add(position("T" + (i % 20 + 1), String.valueOf(i)));
+        }
+        
+        Portfolio.Request request =
+                request(positions.toArray(Portfolio.Position[]::new));
+        
+        PortfolioService sequentialService = service(100, 50);
+        Portfolio.Income sequential = sequentialService.project(request, NOW);
+        sequentialService.shutdown();
+        
+        assertEquals(sequential, portfolioService.project(request, NOW));
+    }
+    
+    @Test
+    void tooManyPositionsIsRejected() {
+        Portfolio.Position[] positions = new Portfolio.Position[51];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = position("T" + i, "1");
+        }
+        
+        assertThrows(PortfolioException.TooManyPositionsException.class,
+                     () -> portfolioService.project(request(positions), NOW));
+        verify(companyRepository, never()).findAllByTickerIn(anyCollection());
+    }
+    
+    @Test
+    void invalidPositionIsRejected() {
+        assertThrows(PortfolioException.InvalidPositionException.class,
+                     () -> portfolioService.project(
+                             request(position("MMM", "0")), NOW));
+        assertThrows(PortfolioException.InvalidPositionException.class,
+                     () -> portfolioService.project(
+                             request(position(" ", "1")), NOW));
+    }
+    
+    private PortfolioService service(int parallelThreshold, int maxPositions) {
+        // 저장소 목은 실제 쿼리처럼 지급월 범위로 거름
+        when(dividendMonthlyRepository.findAllByCompanyIdInAndPayMonthBetween(
+                anyCollection(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> {
+                    Collection<Long> ids = invocation.getArgument(0);
+                    int from = invocation.getArgument(1);
+                    int to = invocation.getArgument(2);
+                    return months.stream()
+                            .filter(m -> ids.contains(m.getCompanyId()))
+                            .filter(m -> m.getPayMonth() >= from &&
+                                    m.getPayMonth() <= to)
+                            .toList();
+                });
+        return new PortfolioService(companyLookupCache,
+                                    dividendMonthlyRepository, 2,
+                                    parallelThreshold, maxPositions);
+    }
+    
+    private void month(long companyId, int payMonth, String total) {
+        DividendMonthlyEntity month =
+                new DividendMonthlyEntity(companyId, payMonth);
+        month.add(new BigDecimal(total));
+        months.add(month);
+    }
+    
+    private static Portfolio.Position position(String ticker, String shares) {
+        return new Portfolio.Position(ticker, new BigDecimal(shares));
+    }
+    
+    private static Portfolio.Request request(
+            Portfolio.Position... positions) {
+        Portfolio.Request request = new Portfolio.Request();
+        request.setPositions(List.of(positions));
+        return request;
+    }
+}
@@ -0,0 +1,82 @@
+package zerobase.dividend.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import zerobase.dividend.entity.ScrapRunEntity;
+import zerobase.dividend.repository.CompanyRepository;
+import zerobase.dividend.repository.ScrapRunItemRepository;
+import zerobase.dividend.repository.ScrapRunRepository;
+import zerobase.dividend.type.ScrapRunStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ScrapRunServiceTest {
+    
+    private static final long RESUME_WINDOW = 60 * 60 * 1000;
+    
+    private final ScrapRunRepository scrapRunRepository =
+            mock(ScrapRunRepository.class);
+    private final ScrapRunItemRepository scrapRunItemRepository =
+            mock(ScrapRunItemRepository.class);
+    private final ScrapRunService service = new ScrapRunService(
+            scrapRunRepository, scrapRunItemRepository,
+            mock(CompanyRepository.class), mock(TransactionTemplate.class));
+    
+    ScrapRunServiceTest() {
+        ReflectionTestUtils.setField(service, "resumeWindow", RESUME_WINDOW);
+    }
+    
+    @Test
+    void oldRunsAreAbandonedAndRecentRunsResumed() {
+        ScrapRunEntity recent = run(1L, LocalDateTime.now().minusMinutes(10));
+        ScrapRunEntity old = run(2L, LocalDateTime.now().minusHours(2));
+        when(scrapRunRepository.findAllByStatus(ScrapRunStatus.RUNNING))
+                .thenReturn(List.of(recent, old));
+        
+        assertEquals(List.of(recent), service.findResumableRuns());
+        assertEquals(ScrapRunStatus.RUNNING, recent.getStatus());
+        assertEquals(ScrapRunStatus.ABANDONED, old.getStatus());
+        assertNotNull(old.getFinishedAt());
+    }
+    
+    @Test
+    void runIsCompletedOnlyWhenNothingIsPending() {
+        ScrapRunEntity run = run(1L, LocalDateTime.now());
+        when(scrapRunRepository.findById(1L)).thenReturn(Optional.of(run));
+        
+        // 다른 노드가 처리 중인 ticker 가 남아 있음
+        when(scrapRunItemRepository.countByScrapRunIdAndOutcomeIsNull(1L))
+                .thenReturn(2L);
+        service.finish(run);
+        assertEquals(ScrapRunStatus.RUNNING, run.getStatus());
+        
+        when(scrapRunItemRepository.countByScrapRunIdAndOutcomeIsNull(1L))
+                .thenReturn(0L);
+        service.finish(run);
+        assertEquals(ScrapRunStatus.COMPLETED, run.getStatus());
+    }
+    
+    @Test
+    void etaFromThroughput() {
+        LocalDateTime startedAt = LocalDateTime.now().minusSeconds(100);
+        
+        assertNull(ScrapRunService.eta(startedAt, 0, 10));
+        assertEquals(0L, ScrapRunService.eta(startedAt, 10, 0));
+        
+        // 10개에 100초 -> 남은 30개는 약 300초
+        long eta = ScrapRunService.eta(startedAt, 10, 30);
+        assertTrue(eta >= 300 && eta <= 303, "eta " + eta);
+    }
+    
+    private static ScrapRunEntity run(Long id, LocalDateTime startedAt) {
+        ScrapRunEntity run = new ScrapRunEntity("run-" + id, 10, startedAt);
+        ReflectionTestUtils.setField(run, "id", id);
+        return run;
+    }
+}
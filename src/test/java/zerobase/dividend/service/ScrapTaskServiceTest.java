@@ -0,0 +1,121 @@
+package zerobase.dividend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import zerobase.dividend.repository.CompanyRepository;
+import zerobase.dividend.repository.DividendRepository;
+import zerobase.dividend.repository.ScrapTaskRepository;
+import zerobase.dividend.type.Cadence;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class ScrapTaskServiceTest {
+    private static final long NEAR_INTERVAL = 6 * 60 * 60 * 1000L;
+    private static final long MAX_INTERVAL = 7 * 24 * 60 * 60 * 1000L;
+    
+    // 2024-01-15 ~ 2024-06-15 매월 15일, 간격 [31, 29, 31, 30, 31] -> 중앙값 31
+    private static final List<LocalDateTime> MONTHLY = dates(
+            "2024-01-15", "2024-02-15", "2024-03-15", "2024-04-15",
+            "2024-05-15", "2024-06-15");
+    
+    // 간격 [89, 92, 92, 92] -> 92, 입력 순서와 무관
+    private static final List<LocalDateTime> QUARTERLY = dates(
+            "2023-11-15", "2023-02-15", "2024-02-15", "2023-08-15",
+            "2023-05-15");
+    
+    // 간격 [45, 200, 50] -> 50, 어느 주기와도 25% 이상 차이
+    private static final List<LocalDateTime> IRREGULAR = dates(
+            "2020-01-01", "2020-02-15", "2020-09-02", "2020-10-22");
+    
+    // 연 1회 8번 뒤 분기 5번, 최근 8개 간격 [365 x3, 91 x5] 만 보므로 분기
+    private static final List<LocalDateTime> ANNUAL_THEN_QUARTERLY =
+            Stream.concat(
+                    IntStream.range(0, 8).mapToObj(
+                            i -> LocalDate.of(2008 + i, 6, 1).atStartOfDay()),
+                    IntStream.rangeClosed(1, 5).mapToObj(
+                            i -> LocalDate.of(2015, 6, 1).plusDays(91L * i)
+                                    .atStartOfDay()))
+                    .toList();
+    
+    private final ScrapTaskService scrapTaskService = new ScrapTaskService(
+            Mockito.mock(ScrapTaskRepository.class),
+            Mockito.mock(CompanyRepository.class),
+            Mockito.mock(DividendRepository.class));
+    
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scrapTaskService, "nearInterval",
+                                     NEAR_INTERVAL);
+        ReflectionTestUtils.setField(scrapTaskService, "maxInterval",
+                                     MAX_INTERVAL);
+    }
+    
+    static Stream<Arguments> plans() {
+        return Stream.of(
+                // 예상일(7/16) 구간 시작(7/10)이 최대 간격보다 멀면 최대 간격 뒤
+                arguments("monthly, far from window", MONTHLY,
+                          "2024-06-20T00:00", Cadence.MONTHLY, "2024-07-16",
+                          "2024-06-27T00:00"),
+                arguments("monthly, before window", MONTHLY,
+                          "2024-07-08T00:00", Cadence.MONTHLY, "2024-07-16",
+                          "2024-07-10T00:00"),
+                arguments("monthly, inside window", MONTHLY,
+                          "2024-07-12T00:00", Cadence.MONTHLY, "2024-07-16",
+                          "2024-07-12T06:00"),
+                // 구간 끝(7/16 + 15일)이 지나면 드물게 확인
+                arguments("monthly, overdue", MONTHLY,
+                          "2024-08-05T00:00", Cadence.MONTHLY, "2024-07-16",
+                          "2024-08-12T00:00"),
+                // 구간은 예상일(5/17) 앞 18일, 뒤 46일
+                arguments("quarterly, before window", QUARTERLY,
+                          "2024-04-25T00:00", Cadence.QUARTERLY, "2024-05-17",
+                          "2024-04-29T00:00"),
+                arguments("quarterly, late but inside window", QUARTERLY,
+                          "2024-06-30T00:00", Cadence.QUARTERLY, "2024-05-17",
+                          "2024-06-30T06:00"),
+                arguments("recent gaps only", ANNUAL_THEN_QUARTERLY,
+                          "2016-09-01T00:00", Cadence.QUARTERLY, "2016-11-28",
+                          "2016-09-08T00:00"),
+                // 구간은 예상일(12/11) 앞 10일(50 / 5), 뒤 25일(50 / 2)
+                arguments("irregular, inside window", IRREGULAR,
+                          "2020-12-03T00:00", Cadence.IRREGULAR, "2020-12-11",
+                          "2020-12-03T06:00"),
+                arguments("no history", List.of(), "2024-07-01T00:00",
+                          Cadence.IRREGULAR, null, "2024-07-08T00:00"),
+                arguments("single dividend", dates("2024-01-15"),
+                          "2024-07-01T00:00", Cadence.IRREGULAR, null,
+                          "2024-07-08T00:00"));
+    }
+    
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("plans")
+    void plan(String name, List<LocalDateTime> dates, String now,
+              Cadence cadence, String expectedDate, String nextScrapAt) {
+        ScrapTaskService.ScrapPlan plan =
+                scrapTaskService.plan(dates, LocalDateTime.parse(now));
+        
+        assertEquals(cadence, plan.cadence());
+        assertEquals(expectedDate == null ? null :
+                             LocalDate.parse(expectedDate).atStartOfDay(),
+                     plan.expectedDate());
+        assertEquals(LocalDateTime.parse(nextScrapAt), plan.nextScrapAt());
+    }
+    
+    private static List<LocalDateTime> dates(String... dates) {
+        return Arrays.stream(dates)
+                .map(date -> LocalDate.parse(date).atStartOfDay())
+                .toList();
+    }
+}
@@ -0,0 +1,35 @@
+package zerobase.dividend.service;
+
+import org.springframework.test.util.ReflectionTestUtils;
+import zerobase.dividend.entity.CompanyEntity;
+import zerobase.dividend.entity.DividendEntity;
+import zerobase.dividend.model.Company;
+import zerobase.dividend.model.Dividend;
+
+import java.time.LocalDateTime;
+
+// 서비스 테스트에서 쓰는 회사/배당금 엔티티 (id 는 DB 가 채우는 값이라 직접 설정)
+final class TestFixtures {
+    
+    private TestFixtures() {
+    }
+    
+    static CompanyEntity company(long id, String ticker) {
+        return company(id, ticker, ticker + " Inc");
+    }
+    
+    static CompanyEntity company(long id, String ticker, String name) {
+        CompanyEntity company = new CompanyEntity(new Company(ticker, name));
+        ReflectionTestUtils.setField(company, "id", id);
+        return company;
+    }
+    
+    static DividendEntity dividend(long id, long companyId,
+                                   LocalDateTime date, String amount,
+                                   long version) {
+        DividendEntity dividend = new DividendEntity(
+                companyId, new Dividend(date, amount), version);
+        ReflectionTestUtils.setField(dividend, "id", id);
+        return dividend;
+    }
+}
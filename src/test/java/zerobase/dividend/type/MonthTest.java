@@ -0,0 +1,27 @@
+package zerobase.dividend.type;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MonthTest {
+    
+    @Test
+    void rangeLookupMatchesStringLookup() {
+        for (Month month : Month.values()) {
+            String s = "<span>" + month.getMonth() + " 16, 2024</span>";
+            int start = s.indexOf('>') + 1;
+            
+            assertEquals(Month.strToNumber(month.getMonth()),
+                         Month.strToNumber(s, start, start + 3));
+        }
+    }
+    
+    @Test
+    void unknownOrWrongLengthIsRejected() {
+        assertEquals(-1, Month.strToNumber("Foo 16", 0, 3));
+        assertEquals(-1, Month.strToNumber("feb 16", 0, 3));
+        assertEquals(-1, Month.strToNumber("Feb 16", 0, 2));
+        assertEquals(-1, Month.strToNumber("Febr 16", 0, 4));
+    }
+}